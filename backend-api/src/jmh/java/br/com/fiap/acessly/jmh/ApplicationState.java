@@ -0,0 +1,66 @@
+package br.com.fiap.acessly.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.fiap.acessly.App;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    ConfigurableApplicationContext context;
+    User user;
+    Company company;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh;MODE=Oracle;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+
+        user = context.getBean(UserRepository.class).save(User.builder().name("Empresa")
+                .email("empresa@jmh.com").password("12345678").userRole(UserRole.COMPANY).build());
+        company = context.getBean(CompanyRepository.class).save(Company.builder().user(user)
+                .name("Acessly").sector("Tecnologia").acessibilityType(AcessibilityType.HIGH).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    MethodHandle privateMethod(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            Object target = AopProxyUtils.getSingletonTarget(context.getBean(owner));
+            MethodHandle handle = MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+            return handle.bindTo(target != null ? target : context.getBean(owner));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.fiap.acessly.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.dto.CandidateResponse;
+import br.com.fiap.acessly.dto.CompanyResponse;
+import br.com.fiap.acessly.dto.CompanySupportResponse;
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.CompanySupport;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.service.CandidacyService;
+import br.com.fiap.acessly.service.CandidateService;
+import br.com.fiap.acessly.service.CompanyService;
+import br.com.fiap.acessly.service.CompanySupportService;
+import br.com.fiap.acessly.service.VacancyService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private MethodHandle vacancyToResponse;
+    private MethodHandle companyToResponse;
+    private MethodHandle companySupportToResponse;
+    private MethodHandle candidateToResponse;
+    private MethodHandle candidacyToResponse;
+
+    private Vacancy vacancy;
+    private Company company;
+    private CompanySupport companySupport;
+    private Candidate candidate;
+    private Candidacy candidacy;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        vacancyToResponse = application.privateMethod(VacancyService.class, "toResponse",
+                VacancyResponse.class, Vacancy.class);
+        companyToResponse = application.privateMethod(CompanyService.class, "toResponse",
+                CompanyResponse.class, Company.class);
+        companySupportToResponse = application.privateMethod(CompanySupportService.class, "toResponse",
+                CompanySupportResponse.class, CompanySupport.class);
+        candidateToResponse = application.privateMethod(CandidateService.class, "toResponse",
+                CandidateResponse.class, Candidate.class);
+        candidacyToResponse = application.privateMethod(CandidacyService.class, "toResponse",
+                CandidacyResponse.class, Candidacy.class);
+
+        company = application.company;
+        vacancy = Vacancy.builder().id(1L).company(company).title("Desenvolvedor Java")
+                .description("APIs com Spring Boot").vacancyType(VacancyType.HYBRID).city("São Paulo").state("SP")
+                .salary(new BigDecimal("5500.00")).accessibilityOffered("Leitor de tela e rampa").build();
+        companySupport = CompanySupport.builder().id(1L).company(company).supportType("Intérprete de Libras")
+                .description("Disponível em todas as entrevistas").build();
+        User candidateUser = User.builder().id(2L).name("Ana").email("ana@jmh.com").userRole(UserRole.CANDIDATE)
+                .build();
+        candidate = Candidate.builder().id(1L).user(candidateUser).disabilityType(DisabilityType.VISUAL)
+                .skills("Java, SQL").experience("3 anos").requiredAcessibility("Leitor de tela").build();
+        candidacy = Candidacy.builder().id(1L).candidate(candidate).vacancy(vacancy)
+                .applicationDate(LocalDate.now()).status(CandidacyStatus.UNDER_ANALYSIS).build();
+    }
+
+    @Benchmark
+    public Object vacancyToResponse() throws Throwable {
+        return vacancyToResponse.invoke(vacancy);
+    }
+
+    @Benchmark
+    public Object companyToResponse() throws Throwable {
+        return companyToResponse.invoke(company);
+    }
+
+    @Benchmark
+    public Object companySupportToResponse() throws Throwable {
+        return companySupportToResponse.invoke(companySupport);
+    }
+
+    @Benchmark
+    public Object candidateToResponse() throws Throwable {
+        return candidateToResponse.invoke(candidate);
+    }
+
+    @Benchmark
+    public Object candidacyToResponse() throws Throwable {
+        return candidacyToResponse.invoke(candidacy);
+    }
+}
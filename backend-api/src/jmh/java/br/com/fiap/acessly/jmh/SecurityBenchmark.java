@@ -0,0 +1,66 @@
+package br.com.fiap.acessly.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import br.com.fiap.acessly.config.RsaKeysProperties;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.service.TokenService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityBenchmark {
+
+    private TokenService tokenService;
+    private JwtDecoder cachingDecoder;
+    private JwtDecoder nimbusDecoder;
+    private BCryptPasswordEncoder passwordEncoder;
+    private User user;
+    private String token;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        tokenService = application.bean(TokenService.class);
+        cachingDecoder = application.bean(JwtDecoder.class);
+        nimbusDecoder = NimbusJwtDecoder.withPublicKey(application.bean(RsaKeysProperties.class).publicKey()).build();
+        passwordEncoder = application.bean(BCryptPasswordEncoder.class);
+        user = application.user;
+        token = tokenService.generateToken(user);
+        passwordHash = passwordEncoder.encode("12345678");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Jwt decodeJwtVerified() {
+        return nimbusDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeJwtCached() {
+        return cachingDecoder.decode(token);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches("12345678", passwordHash);
+    }
+}
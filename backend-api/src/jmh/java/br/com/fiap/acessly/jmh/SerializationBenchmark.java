@@ -0,0 +1,53 @@
+package br.com.fiap.acessly.jmh;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.VacancyType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({ "10", "100" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<VacancyResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        objectMapper = application.bean(ObjectMapper.class);
+        List<VacancyResponse> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> new VacancyResponse((long) i, 1L, "Acessly", "Desenvolvedor Java " + i,
+                        "APIs com Spring Boot e SQL para o time de plataforma", VacancyType.HYBRID, "São Paulo", "SP",
+                        new BigDecimal("5500.00"), "Leitor de tela, rampa de acesso e intérprete de Libras"))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] serializeVacancyPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.fiap.acessly.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.CompanySupport;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.service.CandidacyService;
+import br.com.fiap.acessly.service.CandidateService;
+import br.com.fiap.acessly.service.CompanyService;
+import br.com.fiap.acessly.service.CompanySupportService;
+import br.com.fiap.acessly.service.VacancyService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBenchmark {
+
+    private CriteriaBuilder criteriaBuilder;
+    private MethodHandle vacancyFilters;
+    private MethodHandle companyFilters;
+    private MethodHandle companySupportFilters;
+    private MethodHandle candidateFilters;
+    private MethodHandle candidacyFilters;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        criteriaBuilder = application.bean(EntityManagerFactory.class).getCriteriaBuilder();
+        vacancyFilters = application.privateMethod(VacancyService.class, "filters", Specification.class,
+                String.class, String.class, String.class, String.class);
+        companyFilters = application.privateMethod(CompanyService.class, "filters", Specification.class,
+                String.class, String.class, String.class);
+        companySupportFilters = application.privateMethod(CompanySupportService.class, "filters",
+                Specification.class, Long.class, String.class);
+        candidateFilters = application.privateMethod(CandidateService.class, "filters", Specification.class,
+                String.class, String.class);
+        candidacyFilters = application.privateMethod(CandidacyService.class, "filters", Specification.class,
+                Long.class, Long.class, String.class);
+    }
+
+    @Benchmark
+    public Predicate vacancyFilters() throws Throwable {
+        return predicate(Vacancy.class, vacancyFilters.invoke("Desenvolvedor", "HYBRID", "São Paulo", "Leitor"));
+    }
+
+    @Benchmark
+    public Predicate companyFilters() throws Throwable {
+        return predicate(Company.class, companyFilters.invoke("Acessly", "Tecnologia", "HIGH"));
+    }
+
+    @Benchmark
+    public Predicate companySupportFilters() throws Throwable {
+        return predicate(CompanySupport.class, companySupportFilters.invoke(1L, "Libras"));
+    }
+
+    @Benchmark
+    public Predicate candidateFilters() throws Throwable {
+        return predicate(Candidate.class, candidateFilters.invoke("VISUAL", "Java"));
+    }
+
+    @Benchmark
+    public Predicate candidacyFilters() throws Throwable {
+        return predicate(Candidacy.class, candidacyFilters.invoke(1L, 1L, "UNDER_ANALYSIS"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Predicate predicate(Class<T> entity, Object specification) {
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(entity);
+        return ((Specification<T>) specification).toPredicate(query.from(entity), query, criteriaBuilder);
+    }
+}
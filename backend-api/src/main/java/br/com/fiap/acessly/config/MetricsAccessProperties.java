@@ -0,0 +1,12 @@
+package br.com.fiap.acessly.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "acessly.metrics")
+public record MetricsAccessProperties(
+        @DefaultValue({ "127.0.0.1/32", "::1/128", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16" })
+        List<String> allowedNetworks) {
+}
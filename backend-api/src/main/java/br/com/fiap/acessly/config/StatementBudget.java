@@ -0,0 +1,57 @@
+package br.com.fiap.acessly.config;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Statement budget of the request being handled on the current thread. {@link StatementBudgetInterceptor} opens it
+ * when the handler is resolved, counts every statement against it and closes it when the request completes.
+ * Endpoints that process their input in chunks call {@link #startChunk()} before each chunk, so their budget bounds
+ * the statements of a single chunk instead of growing with the input.
+ */
+@Component
+public class StatementBudget {
+
+    private final ThreadLocal<Usage> current = new ThreadLocal<>();
+
+    public void startChunk() {
+        Usage usage = current.get();
+        if (usage != null) {
+            usage.chunkCount = 0;
+        }
+    }
+
+    void open(String handler, int limit) {
+        current.set(new Usage(handler, limit));
+    }
+
+    Usage current() {
+        return current.get();
+    }
+
+    Usage close() {
+        Usage usage = current.get();
+        current.remove();
+        return usage;
+    }
+
+    static final class Usage {
+
+        final String handler;
+        final int limit;
+        int count;
+        int chunkCount;
+        int peak;
+
+        private Usage(String handler, int limit) {
+            this.handler = handler;
+            this.limit = limit;
+        }
+
+        boolean record() {
+            count++;
+            chunkCount++;
+            peak = Math.max(peak, chunkCount);
+            return chunkCount <= limit;
+        }
+    }
+}
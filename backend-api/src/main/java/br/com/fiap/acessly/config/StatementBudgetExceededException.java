@@ -0,0 +1,12 @@
+package br.com.fiap.acessly.config;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR, reason = "SQL statement budget exceeded")
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String handler, int limit, String sql) {
+        super(handler + " exceeded its budget of " + limit + " SQL statements at: " + sql);
+    }
+}
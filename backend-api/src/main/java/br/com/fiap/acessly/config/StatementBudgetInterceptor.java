@@ -0,0 +1,80 @@
+package br.com.fiap.acessly.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor, StatementInspector {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = StatementBudgetInterceptor.class.getName() + ".count";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetInterceptor.class);
+
+    private final StatementBudgetProperties properties;
+    private final StatementBudget budget;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudgetInterceptor(StatementBudgetProperties properties, StatementBudget budget,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.enabled() && handler instanceof HandlerMethod handlerMethod) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            budget.open(name, properties.limitFor(name));
+        }
+        return true;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        StatementBudget.Usage usage = budget.current();
+        if (usage != null && !usage.record() && properties.mode() == StatementBudgetProperties.Mode.REJECT) {
+            throw new StatementBudgetExceededException(usage.handler, usage.limit, sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        finish(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        finish(request);
+    }
+
+    private void finish(HttpServletRequest request) {
+        StatementBudget.Usage usage = budget.close();
+        if (usage == null) {
+            return;
+        }
+
+        request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, usage.count);
+        DistributionSummary.builder("http.server.requests.statements")
+                .description("SQL statements issued per request")
+                .tag("handler", usage.handler)
+                .register(meterRegistry)
+                .record(usage.count);
+        if (usage.peak > usage.limit) {
+            log.warn("{} {} issued {} SQL statements (budget {})", request.getMethod(), usage.handler,
+                    usage.peak, usage.limit);
+        }
+    }
+}
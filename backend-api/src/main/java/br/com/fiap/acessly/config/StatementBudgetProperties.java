@@ -0,0 +1,26 @@
+package br.com.fiap.acessly.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "acessly.statement-budget")
+public record StatementBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("LOG") Mode mode,
+        @DefaultValue("20") int defaultLimit,
+        Map<String, Integer> endpoints) {
+
+    public enum Mode {
+        LOG, REJECT
+    }
+
+    public StatementBudgetProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public int limitFor(String handler) {
+        return endpoints.getOrDefault(handler, defaultLimit);
+    }
+}
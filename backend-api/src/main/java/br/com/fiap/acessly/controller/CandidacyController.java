@@ -2,27 +2,45 @@ package br.com.fiap.acessly.controller;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.fiap.acessly.dto.CandidacyRequest;
 import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkReport;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkRequest;
+import br.com.fiap.acessly.dto.CurrentUserResponse;
+import br.com.fiap.acessly.dto.CursorPage;
 import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.service.BulkImporter;
 import br.com.fiap.acessly.service.CandidacyService;
+import br.com.fiap.acessly.service.CandidacyStatusNotifier;
+import br.com.fiap.acessly.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -37,9 +55,14 @@ import lombok.NonNull;
 public class CandidacyController {
 
     private final CandidacyService candidacyService;
+    private final CandidacyStatusNotifier candidacyStatusNotifier;
+    private final UserService userService;
 
-    public CandidacyController(CandidacyService candidacyService) {
+    public CandidacyController(CandidacyService candidacyService, CandidacyStatusNotifier candidacyStatusNotifier,
+            UserService userService) {
         this.candidacyService = candidacyService;
+        this.candidacyStatusNotifier = candidacyStatusNotifier;
+        this.userService = userService;
     }
 
     @Operation(summary = "Candidatar-se em uma vaga")
@@ -73,19 +96,53 @@ public class CandidacyController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Listar todas as candidaturas com filtros")
-    @ApiResponse(responseCode = "200", description = "Página de candidaturas encontrada")
+    @Operation(summary = "Listar todas as candidaturas com filtros", description = "Com fields, apenas as colunas pedidas são lidas do banco e retornadas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de candidaturas encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
     @GetMapping
-    public ResponseEntity<Page<CandidacyResponse>> getCandidacies(
+    public ResponseEntity<Page<?>> getCandidacies(
             @Parameter(description = "Filtro por ID do candidato") @RequestParam(required = false) Long candidateId,
             @Parameter(description = "Filtro por ID da vaga") @RequestParam(required = false) Long vacancyId,
             @Parameter(description = "Filtro por status") @RequestParam(required = false) String status,
+            @Parameter(description = "Campos a retornar, separados por vírgula (opcional; o id é sempre incluído)") @RequestParam(required = false) Set<String> fields,
             @Parameter(description = "Paginação e ordenação") @NonNull @PageableDefault(size = 10, sort = "id") Pageable pageable) {
+        if (fields != null && !fields.isEmpty()) {
+            try {
+                return ResponseEntity.ok(candidacyService.getCandidaciesWithFields(candidateId, vacancyId, status,
+                        fields, pageable));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
         Page<CandidacyResponse> result = candidacyService.getCandidaciesWithFilters(candidateId, vacancyId, status,
                 pageable);
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "Listar candidaturas por cursor (keyset)", description = "Cada página busca a partir da última candidatura retornada; use o nextCursor para obter a próxima página")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de candidaturas encontrada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos")
+    })
+    @GetMapping("scroll")
+    public ResponseEntity<CursorPage<CandidacyResponse>> scrollCandidacies(
+            @Parameter(description = "Filtro por ID do candidato") @RequestParam(required = false) Long candidateId,
+            @Parameter(description = "Filtro por ID da vaga") @RequestParam(required = false) Long vacancyId,
+            @Parameter(description = "Filtro por status") @RequestParam(required = false) String status,
+            @Parameter(description = "Cursor retornado pela página anterior (opcional)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Ordenação por id, applicationDate ou status") @NonNull @SortDefault(sort = "id") Sort sort) {
+        try {
+            return ResponseEntity.ok(
+                    candidacyService.scrollCandidacies(candidateId, vacancyId, status, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Listar candidaturas de um candidatio específico")
     @ApiResponse(responseCode = "200", description = "Candidaturas encontradas")
     @GetMapping("candidates/{candidateId}")
@@ -95,6 +152,38 @@ public class CandidacyController {
         return ResponseEntity.ok(candidacies);
     }
 
+    @Operation(summary = "Acompanhar mudanças de status das candidaturas", description = "Server-Sent Events com as mudanças de status das candidaturas do candidato autenticado. Envia heartbeats periódicos e, ao reconectar com o cabeçalho Last-Event-ID, reenvia os eventos perdidos; quando eles não estão mais disponíveis envia um evento resync para o cliente recarregar a lista")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Fluxo de eventos aberto"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas candidatos recebem eventos"),
+            @ApiResponse(responseCode = "404", description = "Candidato não encontrado")
+    })
+    @PreAuthorize("hasRole('CANDIDATE')")
+    @GetMapping(value = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCandidacyEvents(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(description = "Último evento recebido (opcional)") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Long candidateId = longClaim(jwt, "candidateId");
+        if (candidateId == null) {
+            candidateId = userService.getCurrentUser(longClaim(jwt, "userId"), jwt.getSubject(), null, null)
+                    .map(CurrentUserResponse::candidateId)
+                    .orElse(null);
+        }
+        if (candidateId == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(candidacyStatusNotifier.subscribe(candidateId, lastEventId));
+    }
+
+    private boolean managesVacancy(Jwt jwt, Long vacancyId) {
+        return candidacyService.isVacancyManagedBy(vacancyId, longClaim(jwt, "companyId"), jwt.getSubject());
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaim(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
     @Operation(summary = "Listar candidaturas de uma vaga específica")
     @ApiResponse(responseCode = "200", description = "Candidaturas encontradas")
     @PreAuthorize("hasRole('COMPANY')")
@@ -105,10 +194,44 @@ public class CandidacyController {
         return ResponseEntity.ok(candidacies);
     }
 
+    @Operation(summary = "Exportar candidaturas de uma vaga", description = "Gera NDJSON ou CSV em fluxo contínuo, lendo as candidaturas do banco em blocos sem carregar a lista inteira em memória")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+            @ApiResponse(responseCode = "400", description = "Formato inválido"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas a empresa dona da vaga pode exportar candidaturas")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @GetMapping("/vacancy/{vacancyId}/export")
+    public ResponseEntity<StreamingResponseBody> exportCandidaciesByVacancy(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(description = "ID da vaga") @PathVariable Long vacancyId,
+            @Parameter(description = "Formato do arquivo: ndjson ou csv") @RequestParam(defaultValue = "ndjson") String format) {
+        MediaType mediaType = switch (format.toLowerCase()) {
+            case "ndjson" -> MediaType.APPLICATION_NDJSON;
+            case "csv" -> MediaType.parseMediaType(BulkImporter.TEXT_CSV_VALUE);
+            default -> null;
+        };
+        if (mediaType == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!managesVacancy(jwt, vacancyId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("candidaturas-vaga-" + vacancyId + "." + format.toLowerCase())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> candidacyService.exportCandidaciesByVacancy(vacancyId, mediaType, out));
+    }
+
     @Operation(summary = "Atualizar status da candidatura")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Status atualizado"),
             @ApiResponse(responseCode = "404", description = "Candidatura não encontrada"),
+            @ApiResponse(responseCode = "409", description = "Transição de status não permitida"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - apenas empresas podem atualizar status")
     })
     @PreAuthorize("hasRole('COMPANY')")
@@ -116,9 +239,34 @@ public class CandidacyController {
     public ResponseEntity<CandidacyResponse> updateCandidacyStatus(
             @Parameter(description = "ID da candidatura") @PathVariable Long id,
             @Parameter(description = "Novo status") @RequestParam CandidacyStatus status) {
-        Optional<CandidacyResponse> updated = candidacyService.updateCandidacyStatus(id, status);
-        return updated.map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        try {
+            Optional<CandidacyResponse> updated = candidacyService.updateCandidacyStatus(id, status);
+            return updated.map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @Operation(summary = "Atualizar status de várias candidaturas de uma vaga", description = "Recebe uma lista de ids ou um filtro (status atual e/ou candidaturas com mais de N dias) e atualiza em lotes; o filtro não tem limite de candidaturas, que são lidas bloco a bloco. Só são aceitas as transições de UNDER_ANALYSIS para APPROVED ou REJECTED e a reabertura para UNDER_ANALYSIS; o resultado de cada id é informado na resposta")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Status atualizados; veja o resultado de cada candidatura"),
+            @ApiResponse(responseCode = "400", description = "Nenhum id ou filtro informado, ou mais ids na lista que o limite"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas a empresa dona da vaga pode atualizar status")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @PatchMapping("status")
+    public ResponseEntity<CandidacyStatusBulkReport> updateCandidacyStatuses(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(description = "Vaga, novo status e candidaturas a atualizar") @Valid @RequestBody CandidacyStatusBulkRequest request) {
+        if (!managesVacancy(jwt, request.vacancyId())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(candidacyService.updateCandidacyStatuses(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(summary = "Excluir candidatura")
@@ -1,6 +1,8 @@
 package br.com.fiap.acessly.controller;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import br.com.fiap.acessly.dto.CandidateRequest;
 import br.com.fiap.acessly.dto.CandidateResponse;
+import br.com.fiap.acessly.dto.VacancyRecommendation;
 import br.com.fiap.acessly.service.CandidateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -53,6 +56,20 @@ public class CandidateController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @Operation(summary = "Vagas recomendadas para o candidato", description = "Ranqueia as vagas pela acessibilidade oferecida em relação ao tipo de deficiência e às necessidades do candidato, pelas habilidades e pela localização")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Vagas recomendadas em ordem de aderência"),
+            @ApiResponse(responseCode = "404", description = "Candidato não encontrado")
+    })
+    @GetMapping("{id}/recommendations")
+    public ResponseEntity<List<VacancyRecommendation>> getRecommendations(
+            @Parameter(description = "ID do candidato") @PathVariable Long id,
+            @Parameter(description = "Quantidade de vagas recomendadas") @RequestParam(defaultValue = "20") int limit) {
+        return candidateService.recommendVacancies(id, limit)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Consulta candidato por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Candidato encontrado"),
@@ -66,13 +83,26 @@ public class CandidateController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Consulta paginada e filtrada de candidatos")
-    @ApiResponse(responseCode = "200", description = "Página de candidatos encontrada")
+    @Operation(summary = "Consulta paginada e filtrada de candidatos", description = "Com fields, apenas as colunas pedidas são lidas do banco e retornadas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de candidatos encontrada"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
     @GetMapping
-    public ResponseEntity<Page<CandidateResponse>> getCandidates(
+    public ResponseEntity<Page<?>> getCandidates(
             @Parameter(description = "Filtro por tipo de deficiência") @RequestParam(required = false) String disabilityType,
             @Parameter(description = "Filtro por habilidades") @RequestParam(required = false) String skills,
+            @Parameter(description = "Campos a retornar, separados por vírgula (opcional; o id é sempre incluído)") @RequestParam(required = false) Set<String> fields,
             @Parameter(description = "Paginação e ordenação") @NonNull Pageable pageable) {
+        if (fields != null && !fields.isEmpty()) {
+            try {
+                return ResponseEntity.ok(candidateService.getCandidatesWithFields(disabilityType, skills, fields,
+                        pageable));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
         Page<CandidateResponse> result = candidateService.getCandidatesWithFilters(disabilityType, skills, pageable);
         return ResponseEntity.ok(result);
     }
@@ -1,11 +1,18 @@
 package br.com.fiap.acessly.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,12 +21,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.fiap.acessly.dto.CompanyRequest;
 import br.com.fiap.acessly.dto.CompanyResponse;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.service.BulkImporter;
 import br.com.fiap.acessly.service.CompanyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,6 +44,8 @@ import lombok.NonNull;
 @RequestMapping("companies")
 public class CompanyController {
 
+    private static final CacheControl COMPANY_CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate();
+
     private final CompanyService companyService;
 
     public CompanyController(CompanyService companyService) {
@@ -53,27 +66,64 @@ public class CompanyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @Operation(summary = "Importação em lote de empresas", description = "Aceita NDJSON (um objeto por linha) ou CSV com cabeçalho. As linhas são lidas em fluxo, validadas e gravadas em blocos; as rejeitadas são listadas no relatório com o número da linha")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação processada com relatório por linha"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas empresas podem importar empresas"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @PostMapping(value = "import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, BulkImporter.TEXT_CSV_VALUE })
+    public ResponseEntity<ImportReport> importCompanies(
+            @Parameter(description = "Conteúdo NDJSON ou CSV com as empresas") InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) throws IOException {
+        return ResponseEntity.ok(companyService.importCompanies(body, contentType));
+    }
+
     @Operation(summary = "Consulta empresa por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Empresa encontrada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Empresa não modificada desde o ETag informado em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Empresa não encontrada")
     })
     @GetMapping("{id}")
     public ResponseEntity<CompanyResponse> getCompany(
-            @Parameter(description = "ID da empresa a ser consultada") @PathVariable Long id) {
+            @Parameter(description = "ID da empresa a ser consultada") @PathVariable Long id, WebRequest webRequest) {
+        Optional<String> versionTag = companyService.getCompanyVersionTag(id);
+        if (versionTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(versionTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versionTag.get()).cacheControl(COMPANY_CACHE)
+                    .build();
+        }
+
         Optional<CompanyResponse> company = companyService.getCompanyById(id);
-        return company.map(ResponseEntity::ok)
+        return company.map(body -> ResponseEntity.ok().eTag(versionTag.get()).cacheControl(COMPANY_CACHE).body(body))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Consulta paginada e filtrada de empresas")
-    @ApiResponse(responseCode = "200", description = "Página de empresas encontrada com sucesso")
+    @Operation(summary = "Consulta paginada e filtrada de empresas", description = "Com fields, apenas as colunas pedidas são lidas do banco e retornadas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de empresas encontrada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
     @GetMapping
-    public ResponseEntity<Page<CompanyResponse>> getCompanies(
+    public ResponseEntity<Page<?>> getCompanies(
             @Parameter(description = "Filtro por nome (opcional)") @RequestParam(required = false) String name,
             @Parameter(description = "Filtro por setor (opcional)") @RequestParam(required = false) String sector,
             @Parameter(description = "Filtro por tipo de acessibilidade (opcional)") @RequestParam(required = false) String acessibilityType,
+            @Parameter(description = "Campos a retornar, separados por vírgula (opcional; o id é sempre incluído)") @RequestParam(required = false) Set<String> fields,
             @Parameter(description = "Paginação e ordenação") @NonNull @PageableDefault(size = 10, sort = "id") Pageable pageable) {
+        if (fields != null && !fields.isEmpty()) {
+            try {
+                return ResponseEntity.ok(companyService.getCompaniesWithFields(name, sector, acessibilityType, fields,
+                        pageable));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
         Page<CompanyResponse> result = companyService.getCompaniesWithFilters(name, sector, acessibilityType, pageable);
         return ResponseEntity.ok(result);
     }
@@ -1,12 +1,20 @@
 package br.com.fiap.acessly.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,12 +23,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.fiap.acessly.dto.CompanySupportRequest;
 import br.com.fiap.acessly.dto.CompanySupportResponse;
+import br.com.fiap.acessly.dto.CursorPage;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.service.BulkImporter;
 import br.com.fiap.acessly.service.CompanySupportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,6 +48,8 @@ import lombok.NonNull;
 @RequestMapping("company-support")
 public class CompanySupportController {
 
+    private static final CacheControl SUPPORT_CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate();
+
     private final CompanySupportService companySupportService;
 
     public CompanySupportController(CompanySupportService companySupportService) {
@@ -55,6 +70,20 @@ public class CompanySupportController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @Operation(summary = "Importação em lote de recursos de suporte", description = "Aceita NDJSON (um objeto por linha) ou CSV com cabeçalho. As linhas são lidas em fluxo, validadas e gravadas em blocos; as rejeitadas são listadas no relatório com o número da linha")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação processada com relatório por linha"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas empresas podem importar recursos de suporte"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @PostMapping(value = "import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, BulkImporter.TEXT_CSV_VALUE })
+    public ResponseEntity<ImportReport> importCompanySupports(
+            @Parameter(description = "Conteúdo NDJSON ou CSV com os recursos de suporte") InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) throws IOException {
+        return ResponseEntity.ok(companySupportService.importCompanySupports(body, contentType));
+    }
+
     @Operation(summary = "Consultar recurso de suporte por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Recurso de suporte encontrado"),
@@ -80,13 +109,45 @@ public class CompanySupportController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "Listar recursos de suporte por cursor (keyset)", description = "Cada página busca a partir do último recurso retornado; use o nextCursor para obter a próxima página")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de recursos de suporte encontrada"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos")
+    })
+    @GetMapping("scroll")
+    public ResponseEntity<CursorPage<CompanySupportResponse>> scrollCompanySupports(
+            @Parameter(description = "Filtro por ID da empresa") @RequestParam(required = false) Long companyId,
+            @Parameter(description = "Filtro por tipo de suporte") @RequestParam(required = false) String supportType,
+            @Parameter(description = "Cursor retornado pela página anterior (opcional)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Ordenação por id ou supportType") @NonNull @SortDefault(sort = "id") Sort sort) {
+        try {
+            return ResponseEntity.ok(
+                    companySupportService.scrollCompanySupports(companyId, supportType, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Listar recursos de suporte de uma empresa específica")
-    @ApiResponse(responseCode = "200", description = "Recursos de suporte encontrados")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Recursos de suporte encontrados"),
+            @ApiResponse(responseCode = "304", description = "Lista não modificada desde o ETag informado em If-None-Match")
+    })
     @GetMapping("companies/{companyId}")
     public ResponseEntity<List<CompanySupportResponse>> getSupportsByCompany(
-            @Parameter(description = "ID da empresa") @PathVariable Long companyId) {
+            @Parameter(description = "ID da empresa") @PathVariable Long companyId, WebRequest webRequest) {
+        Optional<String> versionTag = companySupportService.getSupportByCompanyVersionTag(companyId);
+        if (versionTag.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+        if (webRequest.checkNotModified(versionTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versionTag.get()).cacheControl(SUPPORT_CACHE)
+                    .build();
+        }
+
         List<CompanySupportResponse> supports = companySupportService.getSupportByCompany(companyId);
-        return ResponseEntity.ok(supports);
+        return ResponseEntity.ok().eTag(versionTag.get()).cacheControl(SUPPORT_CACHE).body(supports);
     }
 
     @Operation(summary = "Atualizar recurso de suporte")
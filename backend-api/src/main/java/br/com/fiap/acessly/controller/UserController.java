@@ -4,10 +4,14 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +22,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.fiap.acessly.dto.CurrentUserResponse;
+import br.com.fiap.acessly.dto.CursorPage;
 import br.com.fiap.acessly.model.User;
 import br.com.fiap.acessly.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,6 +58,45 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @Operation(summary = "Listar usuários por cursor (keyset)", description = "Cada página busca a partir do último usuário retornado; use o nextCursor para obter a próxima página")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de usuários encontrada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado")
+    })
+    @GetMapping("scroll")
+    public ResponseEntity<CursorPage<User>> scrollUsers(
+            @Parameter(description = "Filtra por nome (opcional)") @RequestParam(required = false) String name,
+            @Parameter(description = "Filtra por email (opcional)") @RequestParam(required = false) String email,
+            @Parameter(description = "Cursor retornado pela página anterior (opcional)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Ordenação por id, name ou email") @SortDefault(sort = "id") Sort sort) {
+        try {
+            return ResponseEntity.ok(userService.scrollUsersWithFilter(name, email, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Consulta o usuário autenticado", description = "Resolve o perfil a partir das claims userId, candidateId e companyId do token")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Usuário autenticado encontrado com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado"),
+            @ApiResponse(responseCode = "401", description = "Não autorizado")
+    })
+    @GetMapping("me")
+    public ResponseEntity<CurrentUserResponse> getCurrentUser(@AuthenticationPrincipal Jwt jwt) {
+        return userService.getCurrentUser(longClaim(jwt, "userId"), jwt.getSubject(),
+                longClaim(jwt, "candidateId"), longClaim(jwt, "companyId"))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaim(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
     @Operation(summary = "Consulta usuário por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Usuário encontrado com sucesso"),
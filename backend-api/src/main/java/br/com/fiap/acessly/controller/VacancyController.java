@@ -1,24 +1,46 @@
 package br.com.fiap.acessly.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import br.com.fiap.acessly.dto.CursorPage;
+import br.com.fiap.acessly.dto.HiringFunnelReport;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.dto.SuggestionResponse;
+import br.com.fiap.acessly.dto.VacancyApplicants;
 import br.com.fiap.acessly.dto.VacancyRequest;
 import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.service.BulkImporter;
 import br.com.fiap.acessly.service.VacancyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -34,6 +56,8 @@ import lombok.NonNull;
 @RequestMapping("vacancies")
 public class VacancyController {
 
+    private static final CacheControl VACANCY_CACHE = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
     private final VacancyService vacancyService;
 
     public VacancyController(VacancyService vacancyService) {
@@ -54,31 +78,143 @@ public class VacancyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
+    @Operation(summary = "Importação em lote de vagas", description = "Aceita NDJSON (um objeto por linha) ou CSV com cabeçalho. As linhas são lidas em fluxo, validadas e gravadas em blocos; as rejeitadas são listadas no relatório com o número da linha")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importação processada com relatório por linha"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas empresas podem importar vagas"),
+            @ApiResponse(responseCode = "415", description = "Formato não suportado")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @PostMapping(value = "import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, BulkImporter.TEXT_CSV_VALUE })
+    public ResponseEntity<ImportReport> importVacancies(
+            @Parameter(description = "Conteúdo NDJSON ou CSV com as vagas") InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) throws IOException {
+        return ResponseEntity.ok(vacancyService.importVacancies(body, contentType));
+    }
+
     @Operation(summary = "Consulta vaga por ID")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Vaga encontrada"),
+            @ApiResponse(responseCode = "304", description = "Vaga não modificada desde o ETag informado em If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Vaga não encontrada")
     })
     @GetMapping("{id}")
     public ResponseEntity<VacancyResponse> getVacancy(
-            @Parameter(description = "ID da vaga") @PathVariable Long id) {
+            @Parameter(description = "ID da vaga") @PathVariable Long id, WebRequest webRequest) {
+        Optional<String> versionTag = vacancyService.getVacancyVersionTag(id);
+        if (versionTag.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(versionTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versionTag.get()).cacheControl(VACANCY_CACHE)
+                    .build();
+        }
+
         Optional<VacancyResponse> vacancy = vacancyService.getVacancyById(id);
-        return vacancy.map(ResponseEntity::ok)
+        return vacancy.map(body -> ResponseEntity.ok().eTag(versionTag.get()).cacheControl(VACANCY_CACHE).body(body))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Consulta paginada e filtrada de vagas")
-    @ApiResponse(responseCode = "200", description = "Página de vagas encontrada")
+    @Operation(summary = "Consulta paginada e filtrada de vagas", description = "Com fields, apenas as colunas pedidas são lidas do banco e retornadas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de vagas encontrada"),
+            @ApiResponse(responseCode = "400", description = "Tipo de vaga inválido ou campo desconhecido em fields")
+    })
     @GetMapping
-    public ResponseEntity<Page<VacancyResponse>> getVacancies(
-            @Parameter(description = "Filtro por título (opcional)") @RequestParam(required = false) String title,
+    public ResponseEntity<Page<?>> getVacancies(
+            @Parameter(description = "Busca textual ranqueada por título, descrição e acessibilidade (opcional). Com sort, apenas as 1000 vagas mais relevantes são ordenadas") @RequestParam(required = false) String title,
             @Parameter(description = "Filtro por tipo de vaga (opcional)") @RequestParam(required = false) String vacancyType,
-            @Parameter(description = "Filtro por cidade (opcional)") @RequestParam(required = false) String city,
+            @Parameter(description = "Filtro por cidade, pelo início do nome e sem diferenciar acentos (opcional)") @RequestParam(required = false) String city,
+            @Parameter(description = "Filtro por estado, sem diferenciar acentos (opcional)") @RequestParam(required = false) String state,
             @Parameter(description = "Filtro por acessibilidade oferecida (opcional)") @RequestParam(required = false) String accessibilityOffered,
+            @Parameter(description = "Campos a retornar, separados por vírgula (opcional; o id é sempre incluído)") @RequestParam(required = false) Set<String> fields,
             @Parameter(description = "Paginação e ordenação") @NonNull Pageable pageable) {
-        Page<VacancyResponse> result = vacancyService.getVacanciesWithFilters(title, vacancyType, city,
-                accessibilityOffered, pageable);
-        return ResponseEntity.ok(result);
+        try {
+            if (fields != null && !fields.isEmpty()) {
+                return ResponseEntity.ok(vacancyService.getVacanciesWithFields(title, vacancyType, city, state,
+                        accessibilityOffered, fields, pageable));
+            }
+            return ResponseEntity.ok(vacancyService.getVacanciesWithFilters(title, vacancyType, city, state,
+                    accessibilityOffered, pageable));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Consulta de vagas por cursor (keyset)", description = "Cada página busca a partir da última vaga retornada; use o nextCursor para obter a próxima página")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Página de vagas encontrada"),
+            @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou campos inválidos")
+    })
+    @GetMapping("scroll")
+    public ResponseEntity<CursorPage<?>> scrollVacancies(
+            @Parameter(description = "Filtro por tipo de vaga (opcional)") @RequestParam(required = false) String vacancyType,
+            @Parameter(description = "Filtro por cidade, pelo início do nome e sem diferenciar acentos (opcional)") @RequestParam(required = false) String city,
+            @Parameter(description = "Filtro por estado, sem diferenciar acentos (opcional)") @RequestParam(required = false) String state,
+            @Parameter(description = "Cursor retornado pela página anterior (opcional)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Campos a retornar, separados por vírgula (opcional; o id é sempre incluído)") @RequestParam(required = false) Set<String> fields,
+            @Parameter(description = "Ordenação por id ou title") @NonNull @SortDefault(sort = "id") Sort sort) {
+        try {
+            if (fields != null && !fields.isEmpty()) {
+                return ResponseEntity.ok(vacancyService.scrollVacanciesWithFields(vacancyType, city, state, cursor,
+                        size, sort, fields));
+            }
+            return ResponseEntity.ok(vacancyService.scrollVacancies(vacancyType, city, state, cursor, size, sort));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Sugestões para a busca de vagas", description = "Completa o texto digitado com títulos de vagas, nomes de empresas e setores, sem diferenciar acentos, ordenados pela quantidade de vagas ou empresas que usam cada sugestão; responde da memória, sem consultar o banco")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Sugestões encontradas")
+    })
+    @GetMapping("suggestions")
+    public ResponseEntity<List<SuggestionResponse>> getSuggestions(
+            @Parameter(description = "Texto digitado") @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Quantidade de sugestões (máximo 10)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(vacancyService.suggest(q, limit));
+    }
+
+    @Operation(summary = "Candidatos por status em cada vaga da empresa", description = "Contadores mantidos a cada candidatura, sem listar as candidaturas. Disponível apenas para a empresa dona das vagas")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Contagem de candidatos por vaga e status"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas a própria empresa pode consultar o painel")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @GetMapping("companies/{companyId}/applicants")
+    public ResponseEntity<List<VacancyApplicants>> getApplicantsByCompany(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(description = "ID da empresa") @PathVariable Long companyId) {
+        if (!managesCompany(jwt, companyId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(vacancyService.getApplicantsByCompany(companyId));
+    }
+
+    @Operation(summary = "Funil de contratação diário da empresa", description = "Candidaturas, aprovações, reprovações e mediana de dias até a decisão por dia, lidas de agregados diários")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Funil do período"),
+            @ApiResponse(responseCode = "400", description = "Período inválido"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - apenas a própria empresa pode consultar o funil")
+    })
+    @PreAuthorize("hasRole('COMPANY')")
+    @GetMapping("companies/{companyId}/funnel")
+    public ResponseEntity<HiringFunnelReport> getHiringFunnel(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(description = "ID da empresa") @PathVariable Long companyId,
+            @Parameter(description = "Filtro por vaga (opcional)") @RequestParam(required = false) Long vacancyId,
+            @Parameter(description = "Data inicial (padrão: 29 dias antes da final)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Data final (padrão: hoje)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (!managesCompany(jwt, companyId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            return ResponseEntity.ok(vacancyService.getHiringFunnel(companyId, vacancyId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(summary = "Atualização de vaga")
@@ -112,4 +248,12 @@ public class VacancyController {
         }
         return ResponseEntity.notFound().build();
     }
+
+    private boolean managesCompany(Jwt jwt, Long companyId) {
+        Object claim = jwt.getClaim("companyId");
+        if (claim instanceof Number number && number.longValue() == companyId) {
+            return true;
+        }
+        return vacancyService.isManagedBy(companyId, jwt.getSubject());
+    }
 }
@@ -0,0 +1,9 @@
+package br.com.fiap.acessly.dto;
+
+import java.util.List;
+
+public record CandidacyStatusBulkReport(
+    long requested,
+    long updated,
+    List<CandidacyStatusOutcome> outcomes
+) {}
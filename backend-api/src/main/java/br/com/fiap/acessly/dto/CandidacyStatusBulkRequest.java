@@ -0,0 +1,23 @@
+package br.com.fiap.acessly.dto;
+
+import java.util.List;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CandidacyStatusBulkRequest(
+
+    @NotNull(message = "ID da vaga é obrigatório")
+    Long vacancyId,
+
+    @NotNull(message = "Novo status é obrigatório")
+    CandidacyStatus status,
+
+    List<Long> ids,
+
+    CandidacyStatus currentStatus,
+
+    @Min(value = 0, message = "A quantidade de dias não pode ser negativa")
+    Integer olderThanDays
+) {}
@@ -0,0 +1,18 @@
+package br.com.fiap.acessly.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+
+/**
+ * Status of a candidacy after a change. It is also the outbox payload of a created or deleted candidacy, where the
+ * previous status and decision date are null and {@code candidacy} is the candidacy that was created or removed.
+ */
+public record CandidacyStatusEvent(
+        CandidacyResponse candidacy,
+        LocalDate decisionDate,
+        CandidacyStatus previousStatus,
+        LocalDate previousDecisionDate,
+        Instant changedAt) {
+}
@@ -0,0 +1,17 @@
+package br.com.fiap.acessly.dto;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+
+public record CandidacyStatusOutcome(
+    Long id,
+    Result result,
+    CandidacyStatus previousStatus
+) {
+
+    public enum Result {
+        UPDATED,
+        UNCHANGED,
+        INVALID_TRANSITION,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.fiap.acessly.dto;
+
+import br.com.fiap.acessly.model.UserRole;
+
+public record CurrentUserResponse(
+    Long userId,
+    Long candidateId,
+    Long companyId,
+    String name,
+    String email,
+    UserRole role
+) {}
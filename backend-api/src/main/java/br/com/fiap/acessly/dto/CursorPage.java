@@ -0,0 +1,9 @@
+package br.com.fiap.acessly.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+    List<T> content,
+    String nextCursor,
+    boolean hasNext
+) {}
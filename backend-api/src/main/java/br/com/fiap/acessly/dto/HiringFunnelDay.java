@@ -0,0 +1,11 @@
+package br.com.fiap.acessly.dto;
+
+import java.time.LocalDate;
+
+public record HiringFunnelDay(
+    LocalDate date,
+    long applications,
+    long approvals,
+    long rejections,
+    Double medianDaysToDecision
+) {}
@@ -0,0 +1,16 @@
+package br.com.fiap.acessly.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record HiringFunnelReport(
+    Long companyId,
+    Long vacancyId,
+    LocalDate from,
+    LocalDate to,
+    long applications,
+    long approvals,
+    long rejections,
+    Double medianDaysToDecision,
+    List<HiringFunnelDay> days
+) {}
@@ -0,0 +1,6 @@
+package br.com.fiap.acessly.dto;
+
+public record ImportError(
+    long line,
+    String message
+) {}
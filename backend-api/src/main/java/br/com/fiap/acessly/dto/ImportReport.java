@@ -0,0 +1,10 @@
+package br.com.fiap.acessly.dto;
+
+import java.util.List;
+
+public record ImportReport(
+    long processed,
+    long imported,
+    long rejected,
+    List<ImportError> errors
+) {}
@@ -0,0 +1,14 @@
+package br.com.fiap.acessly.dto;
+
+public record SuggestionResponse(
+    String text,
+    Type type,
+    int weight
+) {
+
+    public enum Type {
+        VACANCY_TITLE,
+        COMPANY_NAME,
+        SECTOR
+    }
+}
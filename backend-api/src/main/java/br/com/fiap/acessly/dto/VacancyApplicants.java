@@ -0,0 +1,11 @@
+package br.com.fiap.acessly.dto;
+
+import java.util.Map;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+
+public record VacancyApplicants(
+    Long vacancyId,
+    String title,
+    Map<CandidacyStatus, Long> applicants
+) {}
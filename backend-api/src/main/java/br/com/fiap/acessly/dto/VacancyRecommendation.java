@@ -0,0 +1,9 @@
+package br.com.fiap.acessly.dto;
+
+public record VacancyRecommendation(
+    VacancyResponse vacancy,
+    double score,
+    double accessibilityScore,
+    double skillsScore,
+    double locationScore
+) {}
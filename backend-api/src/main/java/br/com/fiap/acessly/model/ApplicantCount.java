@@ -0,0 +1,20 @@
+package br.com.fiap.acessly.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantCount {
+
+    @Column(name = "applicants", nullable = false)
+    private long applicants;
+
+    @Column(name = "revision", nullable = false)
+    private long revision;
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,16 +21,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "candidacy")
+@Table(name = "candidacy", uniqueConstraints = @UniqueConstraint(name = Candidacy.UNIQUE_APPLICATION, columnNames = {
+        "candidate_id", "vacancy_id" }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Candidacy {
-    
+
+    public static final String UNIQUE_APPLICATION = "UK_CANDIDACY_CANDIDATE_VACANCY";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidacy_seq")
-    @SequenceGenerator(name = "candidacy_seq", sequenceName = "CANDIDACY_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "candidacy_seq", sequenceName = "CANDIDACY_SEQ", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false)
@@ -50,4 +54,7 @@ public class Candidacy {
     @Column(name = "status", nullable = false, length = 20)
     @Builder.Default
     private CandidacyStatus status = CandidacyStatus.UNDER_ANALYSIS;
+
+    @Column(name = "decision_date")
+    private LocalDate decisionDate;
 }
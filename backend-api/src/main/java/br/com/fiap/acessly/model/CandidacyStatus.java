@@ -3,5 +3,13 @@ package br.com.fiap.acessly.model;
 public enum CandidacyStatus {
     UNDER_ANALYSIS,
     APPROVED,
-    REJECTED
+    REJECTED;
+
+    public boolean isDecided() {
+        return this != UNDER_ANALYSIS;
+    }
+
+    public boolean canTransitionTo(CandidacyStatus target) {
+        return this == UNDER_ANALYSIS ? target != UNDER_ANALYSIS : target == UNDER_ANALYSIS;
+    }
 }
@@ -2,6 +2,7 @@ package br.com.fiap.acessly.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,12 +10,15 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "company_support")
@@ -27,10 +31,16 @@ public class CompanySupport {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "company_support_seq")
-    @SequenceGenerator(name = "company_support_seq", sequenceName = "COMPANY_SUPPORT_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "company_support_seq", sequenceName = "COMPANY_SUPPORT_SEQ", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "company_id", referencedColumnName = "id", nullable = false)
     @NotNull(message = "{companysupport.company.notnull}")
     private Company company;
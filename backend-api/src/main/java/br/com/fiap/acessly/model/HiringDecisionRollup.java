@@ -0,0 +1,50 @@
+package br.com.fiap.acessly.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "hiring_decision_rollup")
+@IdClass(HiringDecisionRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HiringDecisionRollup {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        private Long vacancyId;
+        private LocalDate rollupDate;
+        private int daysToDecision;
+    }
+
+    @Id
+    @Column(name = "vacancy_id")
+    private Long vacancyId;
+
+    @Id
+    @Column(name = "rollup_date")
+    private LocalDate rollupDate;
+
+    @Id
+    @Column(name = "days_to_decision")
+    private int daysToDecision;
+
+    @Column(name = "approvals", nullable = false)
+    private long approvals;
+
+    @Column(name = "rejections", nullable = false)
+    private long rejections;
+}
@@ -0,0 +1,60 @@
+package br.com.fiap.acessly.model;
+
+import static java.util.Map.entry;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LocationKey {
+
+    /** Folded state names mapped to their UF, so "São Paulo", "sao paulo" and "SP" share the key "sp". */
+    private static final Map<String, String> STATES = Map.ofEntries(
+            entry("acre", "ac"),
+            entry("alagoas", "al"),
+            entry("amapa", "ap"),
+            entry("amazonas", "am"),
+            entry("bahia", "ba"),
+            entry("ceara", "ce"),
+            entry("distrito federal", "df"),
+            entry("espirito santo", "es"),
+            entry("goias", "go"),
+            entry("maranhao", "ma"),
+            entry("mato grosso", "mt"),
+            entry("mato grosso do sul", "ms"),
+            entry("minas gerais", "mg"),
+            entry("para", "pa"),
+            entry("paraiba", "pb"),
+            entry("parana", "pr"),
+            entry("pernambuco", "pe"),
+            entry("piaui", "pi"),
+            entry("rio de janeiro", "rj"),
+            entry("rio grande do norte", "rn"),
+            entry("rio grande do sul", "rs"),
+            entry("rondonia", "ro"),
+            entry("roraima", "rr"),
+            entry("santa catarina", "sc"),
+            entry("sao paulo", "sp"),
+            entry("sergipe", "se"),
+            entry("tocantins", "to"));
+
+    private LocationKey() {
+    }
+
+    public static String fold(String name) {
+        if (name == null || name.isBlank())
+            return null;
+
+        String folded = Normalizer.normalize(name, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        return folded.isEmpty() ? null : folded;
+    }
+
+    public static String state(String name) {
+        String folded = fold(name);
+        return folded == null ? null : STATES.getOrDefault(folded, folded);
+    }
+}
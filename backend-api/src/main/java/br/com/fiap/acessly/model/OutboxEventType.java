@@ -0,0 +1,9 @@
+package br.com.fiap.acessly.model;
+
+public enum OutboxEventType {
+    CANDIDACY_CREATED,
+    CANDIDACY_STATUS_CHANGED,
+    CANDIDACY_DELETED,
+    VACANCY_UPDATED,
+    VACANCY_DELETED
+}
@@ -1,28 +1,45 @@
 package br.com.fiap.acessly.model;
 
 import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.MapKeyEnumerated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
-@Table(name = "vacancy")
+@Table(name = "vacancy", indexes = {
+        @Index(name = "idx_vacancy_city_key", columnList = "city_key"),
+        @Index(name = "idx_vacancy_state_key", columnList = "state_key") })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,10 +48,16 @@ public class Vacancy {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vacancy_seq")
-    @SequenceGenerator(name = "vacancy_seq", sequenceName = "VACANCY_SEQ", allocationSize = 1)
+    @SequenceGenerator(name = "vacancy_seq", sequenceName = "VACANCY_SEQ", allocationSize = 50)
     private Long id;
 
-    @ManyToOne(optional = false)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinColumn(name = "company_id", referencedColumnName = "id", nullable = false)
     @NotNull(message = "{vacancy.company.notnull}")
     private Company company;
@@ -58,10 +81,42 @@ public class Vacancy {
     @Column(name = "state", length = 50)
     private String state;
 
+    @Column(name = "city_key", length = 100)
+    @Setter(AccessLevel.NONE)
+    private String cityKey;
+
+    @Column(name = "state_key", length = 50)
+    @Setter(AccessLevel.NONE)
+    private String stateKey;
+
     @Column(name = "salary", precision = 10, scale = 2)
     private BigDecimal salary;
 
     @Column(name = "accessibility_offered", nullable = false, length = 255)
     @NotBlank(message = "{vacancy.accessibilityoffered.notblank}")
     private String accessibilityOffered;
+
+    @ElementCollection
+    @CollectionTable(name = "vacancy_applicant_count", joinColumns = @JoinColumn(name = "vacancy_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "status", length = 20)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Builder.Default
+    private Map<CandidacyStatus, ApplicantCount> applicants = noApplicants();
+
+    @PrePersist
+    @PreUpdate
+    void foldLocation() {
+        cityKey = LocationKey.fold(city);
+        stateKey = LocationKey.state(state);
+    }
+
+    private static Map<CandidacyStatus, ApplicantCount> noApplicants() {
+        Map<CandidacyStatus, ApplicantCount> applicants = new EnumMap<>(CandidacyStatus.class);
+        for (CandidacyStatus status : CandidacyStatus.values()) {
+            applicants.put(status, new ApplicantCount(0, 0));
+        }
+        return applicants;
+    }
 }
@@ -0,0 +1,14 @@
+package br.com.fiap.acessly.repository;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+
+public interface ApplicantCountView {
+
+    Long getVacancyId();
+
+    String getTitle();
+
+    CandidacyStatus getStatus();
+
+    Long getApplicants();
+}
@@ -1,14 +1,39 @@
 package br.com.fiap.acessly.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import br.com.fiap.acessly.dto.CandidacyResponse;
 import br.com.fiap.acessly.model.Candidacy;
 import br.com.fiap.acessly.model.CandidacyStatus;
 
 public interface CandidacyRepository extends JpaRepository<Candidacy, Long>, JpaSpecificationExecutor<Candidacy> {
+
+    String RESPONSE_QUERY = """
+            select new br.com.fiap.acessly.dto.CandidacyResponse(
+                c.id, candidate.id, user.name, vacancy.id, vacancy.title, company.name, c.applicationDate, c.status)
+            from Candidacy c
+                join c.candidate candidate
+                join candidate.user user
+                join c.vacancy vacancy
+                join vacancy.company company
+            """;
     
     List<Candidacy> findByCandidateId(Long candidateId);
 
@@ -16,5 +41,59 @@ public interface CandidacyRepository extends JpaRepository<Candidacy, Long>, Jpa
 
     List<Candidacy> findByStatus(CandidacyStatus status);
 
-    boolean existsByCandidateIdAndVacancyId(Long candidateId, Long vacancyId);
+    @Query(RESPONSE_QUERY + "where c.id = :id")
+    Optional<CandidacyResponse> findResponseById(Long id);
+
+    @Query(value = RESPONSE_QUERY + """
+            where (:candidateId is null or candidate.id = :candidateId)
+                and (:vacancyId is null or vacancy.id = :vacancyId)
+                and (:status is null or c.status = :status)
+            """,
+            countQuery = """
+            select count(c) from Candidacy c
+            where (:candidateId is null or c.candidate.id = :candidateId)
+                and (:vacancyId is null or c.vacancy.id = :vacancyId)
+                and (:status is null or c.status = :status)
+            """)
+    Page<CandidacyResponse> findResponses(Long candidateId, Long vacancyId, CandidacyStatus status, Pageable pageable);
+
+    @Query(RESPONSE_QUERY + "where c.id in :ids order by c.id")
+    List<CandidacyResponse> findResponsesByIds(Collection<Long> ids);
+
+    @Query("""
+            select c.id from Candidacy c
+            where c.vacancy.id = :vacancyId
+                and (:status is null or c.status = :status)
+                and (cast(:appliedBefore as LocalDate) is null or c.applicationDate < :appliedBefore)
+                and c.id > :afterId
+            order by c.id
+            """)
+    List<Long> findIdsByVacancy(Long vacancyId, CandidacyStatus status, LocalDate appliedBefore, Long afterId,
+            Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = { "candidate.user", "vacancy" })
+    @Query("select c from Candidacy c where c.id = :id")
+    Optional<Candidacy> lockById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select c.id as id, c.status as status, c.decisionDate as decisionDate
+            from Candidacy c where c.vacancy.id = :vacancyId and c.id in :ids
+            """)
+    List<CandidacyStatusView> lockStatuses(Long vacancyId, Collection<Long> ids);
+
+    @Modifying
+    @Query("update Candidacy c set c.status = :status, c.decisionDate = :decisionDate where c.id in :ids")
+    int updateStatus(Collection<Long> ids, CandidacyStatus status, LocalDate decisionDate);
+
+    @Query(RESPONSE_QUERY + "where candidate.id = :candidateId")
+    List<CandidacyResponse> findResponsesByCandidateId(Long candidateId);
+
+    @Query(RESPONSE_QUERY + "where vacancy.id = :vacancyId")
+    List<CandidacyResponse> findResponsesByVacancyId(Long vacancyId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_QUERY + "where vacancy.id = :vacancyId order by c.id")
+    Stream<CandidacyResponse> streamResponsesByVacancyId(Long vacancyId);
 }
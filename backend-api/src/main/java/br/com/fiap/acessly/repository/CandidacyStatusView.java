@@ -0,0 +1,13 @@
+package br.com.fiap.acessly.repository;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+import java.time.LocalDate;
+
+public interface CandidacyStatusView {
+
+    Long getId();
+
+    CandidacyStatus getStatus();
+
+    LocalDate getDecisionDate();
+}
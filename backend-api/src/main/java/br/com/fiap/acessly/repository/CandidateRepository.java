@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.fiap.acessly.model.Candidate;
 
@@ -12,5 +13,8 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long>, Jpa
     
     Optional<Candidate> findByUserId(Long userId);
 
+    @Query("select c.id from Candidate c where c.user.id = :userId order by c.id")
+    List<Long> findIdsByUserId(Long userId);
+
     List<Candidate> findByDisabilityType(String disabilityType);
 }
@@ -0,0 +1,10 @@
+package br.com.fiap.acessly.repository;
+
+public interface CompanyIndexView {
+
+    Long getId();
+
+    String getName();
+
+    String getSector();
+}
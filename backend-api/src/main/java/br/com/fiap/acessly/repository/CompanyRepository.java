@@ -1,10 +1,31 @@
 package br.com.fiap.acessly.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.fiap.acessly.model.Company;
 
 public interface CompanyRepository extends JpaRepository<Company, Long>, JpaSpecificationExecutor<Company> {
-    
+
+    @Query("select c.id from Company c where c.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select c.name from Company c where c.id = :id")
+    Optional<String> findNameById(Long id);
+
+    @Query("select str(c.version) from Company c where c.id = :id")
+    Optional<String> findVersionTagById(Long id);
+
+    @Query("select c.id from Company c where c.user.id = :userId order by c.id")
+    List<Long> findIdsByUserId(Long userId);
+
+    boolean existsByIdAndUserEmail(Long id, String email);
+
+    List<CompanyIndexView> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
 }
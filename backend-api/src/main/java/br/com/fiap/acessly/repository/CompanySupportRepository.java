@@ -1,9 +1,11 @@
 package br.com.fiap.acessly.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.fiap.acessly.model.CompanySupport;
 
@@ -11,5 +13,14 @@ public interface CompanySupportRepository extends JpaRepository<CompanySupport,
     
     List<CompanySupport> findByCompanyId(Long companyId);
 
+    @Query("""
+            select concat(str(c.version), '.', str(count(s)), '.', str(coalesce(max(s.id), 0)), '.',
+                str(coalesce(sum(s.version), 0)))
+            from Company c left join CompanySupport s on s.company = c
+            where c.id = :companyId
+            group by c.version
+            """)
+    Optional<String> findListVersionTagByCompanyId(Long companyId);
+
     List<CompanySupport> findBySupportTypeContainingIgnoreCase(String supportType);
 }
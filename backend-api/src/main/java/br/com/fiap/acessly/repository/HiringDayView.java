@@ -0,0 +1,16 @@
+package br.com.fiap.acessly.repository;
+
+import java.time.LocalDate;
+
+public interface HiringDayView {
+
+    LocalDate getRollupDate();
+
+    Integer getDaysToDecision();
+
+    Long getApplications();
+
+    Long getApprovals();
+
+    Long getRejections();
+}
@@ -0,0 +1,33 @@
+package br.com.fiap.acessly.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import br.com.fiap.acessly.model.HiringDailyRollup;
+
+public interface HiringRollupRepository extends JpaRepository<HiringDailyRollup, HiringDailyRollup.Key> {
+
+    @Query("""
+            select r.rollupDate as rollupDate, sum(r.applications) as applications
+            from HiringDailyRollup r
+            where r.vacancyId in (select v.id from Vacancy v where v.company.id = :companyId)
+                and (:vacancyId is null or r.vacancyId = :vacancyId)
+                and r.rollupDate between :from and :to
+            group by r.rollupDate
+            """)
+    List<HiringDayView> findApplicationsByDay(Long companyId, Long vacancyId, LocalDate from, LocalDate to);
+
+    @Query("""
+            select r.rollupDate as rollupDate, r.daysToDecision as daysToDecision,
+                sum(r.approvals) as approvals, sum(r.rejections) as rejections
+            from HiringDecisionRollup r
+            where r.vacancyId in (select v.id from Vacancy v where v.company.id = :companyId)
+                and (:vacancyId is null or r.vacancyId = :vacancyId)
+                and r.rollupDate between :from and :to
+            group by r.rollupDate, r.daysToDecision
+            """)
+    List<HiringDayView> findDecisionsByDay(Long companyId, Long vacancyId, LocalDate from, LocalDate to);
+}
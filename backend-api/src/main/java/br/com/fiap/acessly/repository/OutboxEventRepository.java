@@ -0,0 +1,37 @@
+package br.com.fiap.acessly.repository;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import br.com.fiap.acessly.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    String SKIP_LOCKED = "-2";
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+            @QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100") })
+    @Query("""
+            select e from OutboxEvent e
+            where e.processedAt is null and e.attempts < :maxAttempts
+              and (e.nextAttemptAt is null or e.nextAttemptAt <= :now)
+            order by e.id""")
+    Stream<OutboxEvent> streamPendingForUpdate(int maxAttempts, Instant now);
+
+    long countByProcessedAtIsNull();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.processedAt < :before")
+    int deleteProcessedBefore(Instant before);
+}
@@ -1,10 +1,17 @@
 package br.com.fiap.acessly.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.fiap.acessly.model.User;
 
@@ -14,8 +21,18 @@ public interface UserRepository extends JpaRepository<User, Long>{
         String name,
         String email,
         Pageable pageable);
+
+    Window<User> findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase(
+        String name,
+        String email,
+        ScrollPosition position,
+        Sort sort,
+        Limit limit);
     
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
@@ -0,0 +1,20 @@
+package br.com.fiap.acessly.repository;
+
+import br.com.fiap.acessly.model.VacancyType;
+
+public interface VacancyIndexView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getAccessibilityOffered();
+
+    VacancyType getVacancyType();
+
+    String getCity();
+
+    String getState();
+}
@@ -0,0 +1,14 @@
+package br.com.fiap.acessly.repository;
+
+public interface VacancyLocationView {
+
+    Long getId();
+
+    String getCity();
+
+    String getState();
+
+    String getCityKey();
+
+    String getStateKey();
+}
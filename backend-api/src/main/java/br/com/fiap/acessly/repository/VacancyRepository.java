@@ -1,9 +1,13 @@
 package br.com.fiap.acessly.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import br.com.fiap.acessly.model.Vacancy;
 
@@ -14,4 +18,73 @@ public interface VacancyRepository extends JpaRepository<Vacancy, Long>, JpaSpec
     List<Vacancy> findByVacancyType(String vacancyType);
 
     List<Vacancy> findByCityContainingIgnoreCase(String city);
+
+    List<VacancyIndexView> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("""
+            select v.id as id, v.city as city, v.state as state, v.cityKey as cityKey, v.stateKey as stateKey
+            from Vacancy v where v.id > :afterId order by v.id
+            """)
+    List<VacancyLocationView> findLocations(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Vacancy v set v.cityKey = :cityKey, v.stateKey = :stateKey where v.id = :id")
+    int updateLocationKeys(Long id, String cityKey, String stateKey);
+
+    @Query("""
+            select count(v) > 0 from Vacancy v
+            where v.id = :vacancyId and (v.company.id = :companyId or v.company.user.email = :email)
+            """)
+    boolean existsManagedBy(Long vacancyId, Long companyId, String email);
+
+    @Query("""
+            select concat(str(v.version), '.', str(c.version))
+            from Vacancy v join v.company c where v.id = :id
+            """)
+    Optional<String> findVersionTagById(Long id);
+
+    @Query("""
+            select v.id as vacancyId, key(a) as status, a.applicants as applicants
+            from Vacancy v join v.applicants a where v.id = :vacancyId
+            """)
+    List<ApplicantCountView> findApplicantCounts(Long vacancyId);
+
+    @Query("""
+            select v.id as vacancyId, v.title as title, key(a) as status, a.applicants as applicants
+            from Vacancy v join v.applicants a where v.company.id = :companyId order by v.id
+            """)
+    List<ApplicantCountView> findApplicantCountsByCompanyId(Long companyId);
+
+    @Modifying
+    @Query(value = """
+            update vacancy_applicant_count set applicants = applicants + :delta, revision = revision + 1
+            where vacancy_id = :vacancyId and status = :status
+            """, nativeQuery = true)
+    int addApplicants(Long vacancyId, String status, long delta);
+
+    @Modifying
+    @Query(value = """
+            insert into vacancy_applicant_count (vacancy_id, status, applicants, revision)
+            select v.id, :status, 0, 0 from vacancy v
+            where not exists (select 1 from vacancy_applicant_count a where a.vacancy_id = v.id and a.status = :status)
+            """, nativeQuery = true)
+    int insertMissingApplicantCounts(String status);
+
+    @Query(value = """
+            select a.vacancy_id as vacancyId, a.status as status, a.applicants as applicants
+            from vacancy_applicant_count a
+            left join (select vacancy_id, status, count(*) as total from candidacy group by vacancy_id, status) c
+                on c.vacancy_id = a.vacancy_id and c.status = a.status
+            where a.applicants <> coalesce(c.total, 0)
+            """, nativeQuery = true)
+    List<ApplicantCountView> findDriftedApplicantCounts();
+
+    @Modifying
+    @Query(value = """
+            update vacancy_applicant_count a
+            set applicants = (select count(*) from candidacy c where c.vacancy_id = a.vacancy_id and c.status = a.status),
+                revision = revision + 1
+            where a.vacancy_id = :vacancyId and a.status = :status
+            """, nativeQuery = true)
+    int recountApplicants(Long vacancyId, String status);
 }
@@ -0,0 +1,231 @@
+package br.com.fiap.acessly.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import br.com.fiap.acessly.config.StatementBudget;
+import br.com.fiap.acessly.dto.ImportError;
+import br.com.fiap.acessly.dto.ImportReport;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Component
+public class BulkImporter {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    public record Plan<T, E>(
+            Class<T> rowType,
+            Function<T, Long> parentId,
+            Function<Collection<Long>, Set<Long>> existingParentIds,
+            String missingParentMessage,
+            Function<T, E> toEntity,
+            JpaRepository<E, Long> repository,
+            Consumer<List<E>> afterCommit) {
+
+        public Plan(Class<T> rowType, Function<T, Long> parentId,
+                Function<Collection<Long>, Set<Long>> existingParentIds, String missingParentMessage,
+                Function<T, E> toEntity, JpaRepository<E, Long> repository) {
+            this(rowType, parentId, existingParentIds, missingParentMessage, toEntity, repository, saved -> {
+            });
+        }
+    }
+
+    private record Row<T>(long line, T value) {
+    }
+
+    private static class Progress {
+
+        private long processed;
+        private long imported;
+        private long rejected;
+        private final List<ImportError> errors = new ArrayList<>();
+
+        void reject(ImportError error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS)
+                errors.add(error);
+        }
+
+        ImportReport toReport() {
+            return new ImportReport(processed, imported, rejected, errors);
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final StatementBudget statementBudget;
+
+    public BulkImporter(ObjectMapper objectMapper, Validator validator, PlatformTransactionManager transactionManager,
+            StatementBudget statementBudget) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statementBudget = statementBudget;
+    }
+
+    public <T, E> ImportReport importRows(InputStream body, MediaType contentType, Plan<T, E> plan)
+            throws IOException {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        Progress progress = new Progress();
+
+        long lineNumber = 0;
+        ObjectReader rowReader;
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            String header = reader.readLine();
+            if (header == null)
+                return progress.toReport();
+            lineNumber++;
+            rowReader = csvReader(header, plan.rowType());
+        } else {
+            rowReader = objectMapper.readerFor(plan.rowType());
+        }
+
+        List<Row<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank())
+                continue;
+            progress.processed++;
+
+            T value;
+            try {
+                value = rowReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.reject(new ImportError(lineNumber, "Malformed row: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (value == null) {
+                progress.reject(new ImportError(lineNumber, "Empty row"));
+                continue;
+            }
+
+            String violations = describe(validator.validate(value));
+            if (violations != null) {
+                progress.reject(new ImportError(lineNumber, violations));
+                continue;
+            }
+
+            chunk.add(new Row<>(lineNumber, value));
+            if (chunk.size() == CHUNK_SIZE) {
+                write(chunk, plan, progress);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty())
+            write(chunk, plan, progress);
+
+        return progress.toReport();
+    }
+
+    private ObjectReader csvReader(String header, Class<?> rowType) throws IOException {
+        List<String> columns = csvMapper.readerForListOf(String.class).readValue(header);
+
+        CsvSchema schema = CsvSchema.builder()
+                .addColumns(columns.stream().map(String::trim).toList(), CsvSchema.ColumnType.STRING)
+                .build();
+
+        return csvMapper.readerFor(rowType)
+                .with(schema)
+                .with(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private <T, E> void write(List<Row<T>> rows, Plan<T, E> plan, Progress progress) {
+        List<ImportError> errors = new ArrayList<>();
+        List<E> saved;
+        statementBudget.startChunk();
+        try {
+            saved = transactionTemplate.execute(status -> persist(rows, plan, errors));
+        } catch (DataAccessException | TransactionException e) {
+            if (rows.size() == 1) {
+                progress.reject(new ImportError(rows.get(0).line(),
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return;
+            }
+            for (Row<T> row : rows) {
+                write(List.of(row), plan, progress);
+            }
+            return;
+        }
+
+        errors.forEach(progress::reject);
+        progress.imported += saved.size();
+        plan.afterCommit().accept(saved);
+    }
+
+    private <T, E> List<E> persist(List<Row<T>> rows, Plan<T, E> plan, List<ImportError> errors) {
+        Set<Long> parentIds = rows.stream()
+                .map(row -> plan.parentId().apply(row.value()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existing = parentIds.isEmpty() ? Set.of() : plan.existingParentIds().apply(parentIds);
+
+        List<E> entities = new ArrayList<>(rows.size());
+        for (Row<T> row : rows) {
+            Long parentId = plan.parentId().apply(row.value());
+            if (parentId == null || !existing.contains(parentId)) {
+                errors.add(new ImportError(row.line(), plan.missingParentMessage()));
+                continue;
+            }
+
+            E entity = plan.toEntity().apply(row.value());
+            String violations = describe(validator.validate(entity));
+            if (violations != null) {
+                errors.add(new ImportError(row.line(), violations));
+                continue;
+            }
+            entities.add(entity);
+        }
+        return plan.repository().saveAll(entities);
+    }
+
+    private static <V> String describe(Set<ConstraintViolation<V>> violations) {
+        if (violations.isEmpty())
+            return null;
+
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -1,20 +1,48 @@
 package br.com.fiap.acessly.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.com.fiap.acessly.config.StatementBudget;
 import br.com.fiap.acessly.dto.CandidacyRequest;
 import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkReport;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkRequest;
+import br.com.fiap.acessly.dto.CandidacyStatusEvent;
+import br.com.fiap.acessly.dto.CandidacyStatusOutcome;
+import br.com.fiap.acessly.dto.CursorPage;
 import br.com.fiap.acessly.model.Candidacy;
 import br.com.fiap.acessly.model.CandidacyStatus;
-import br.com.fiap.acessly.model.Candidate;
-import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.OutboxEventType;
 import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.CandidacyStatusView;
 import br.com.fiap.acessly.repository.CandidateRepository;
 import br.com.fiap.acessly.repository.VacancyRepository;
 import jakarta.persistence.criteria.Predicate;
@@ -23,18 +51,61 @@ import lombok.NonNull;
 @Service
 public class CandidacyService {
 
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of(
+            "id", Long.class,
+            "applicationDate", LocalDate.class,
+            "status", CandidacyStatus.class);
+
+    private static final SparseFieldQuery.Fields<Candidacy> SPARSE_FIELDS = SparseFieldQuery.Fields.of(Candidacy.class)
+            .field("candidateId", "candidate.id")
+            .field("candidateName", "candidate.user.name")
+            .field("vacancyId", "vacancy.id")
+            .field("vacancyTitle", "vacancy.title")
+            .field("companyName", "vacancy.company.name")
+            .field("applicationDate")
+            .field("status");
+
     private final CandidacyRepository candidacyRepository;
     private final CandidateRepository candidateRepository;
     private final VacancyRepository vacancyRepository;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final StreamingExporter streamingExporter;
+    private final CompanyService companyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox outbox;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final TransactionTemplate transactionTemplate;
+    private final VacancyApplicantCounter applicantCounter;
+    private final StatementBudget statementBudget;
+    private final int bulkChunkSize;
+    private final int bulkMaxIds;
 
     public CandidacyService(CandidacyRepository candidacyRepository, CandidateRepository candidateRepository,
-            VacancyRepository vacancyRepository) {
+            VacancyRepository vacancyRepository, ScrollCursorCodec scrollCursorCodec,
+            StreamingExporter streamingExporter, CompanyService companyService,
+            ApplicationEventPublisher eventPublisher, DomainEventOutbox outbox, SparseFieldQuery sparseFieldQuery,
+            TransactionTemplate transactionTemplate, VacancyApplicantCounter applicantCounter,
+            StatementBudget statementBudget,
+            @Value("${acessly.candidacies.bulk-status.chunk-size:500}") int bulkChunkSize,
+            @Value("${acessly.candidacies.bulk-status.max-ids:10000}") int bulkMaxIds) {
         this.candidacyRepository = candidacyRepository;
         this.candidateRepository = candidateRepository;
         this.vacancyRepository = vacancyRepository;
+        this.scrollCursorCodec = scrollCursorCodec;
+        this.streamingExporter = streamingExporter;
+        this.companyService = companyService;
+        this.eventPublisher = eventPublisher;
+        this.outbox = outbox;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.transactionTemplate = transactionTemplate;
+        this.applicantCounter = applicantCounter;
+        this.statementBudget = statementBudget;
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkMaxIds = bulkMaxIds;
     }
 
     @SuppressWarnings("null")
+    @Transactional
     public CandidacyResponse createCandidacy(CandidacyRequest request) {
         Long candidateId = request.candidateId();
         Long vacancyId = request.vacancyId();
@@ -43,47 +114,156 @@ public class CandidacyService {
             throw new IllegalArgumentException("Candidate ID and Vacancy ID cannot be null.");
         }
 
-        if (candidacyRepository.existsByCandidateIdAndVacancyId(candidateId, vacancyId)) {
-            throw new RuntimeException("Candidate alreay applied to this vacancy");
-        }
-
-        Candidate candidate = candidateRepository.findById(candidateId)
-                .orElseThrow(() -> new RuntimeException("Candidate not found"));
-
-        Vacancy vacancy = vacancyRepository.findById(vacancyId)
-                .orElseThrow(() -> new RuntimeException("Vacancy not found"));
-
+        CandidacyStatus status = request.status() != null ? request.status() : CandidacyStatus.UNDER_ANALYSIS;
         Candidacy candidacy = Candidacy.builder()
-                .candidate(candidate)
-                .vacancy(vacancy)
+                .candidate(candidateRepository.getReferenceById(candidateId))
+                .vacancy(vacancyRepository.getReferenceById(vacancyId))
                 .applicationDate(request.applicationDate())
-                .status(request.status() != null ? request.status() : CandidacyStatus.UNDER_ANALYSIS)
+                .status(status)
+                .decisionDate(status.isDecided() ? LocalDate.now() : null)
                 .build();
 
-        return toResponse(candidacyRepository.save(candidacy));
+        try {
+            candidacy = candidacyRepository.saveAndFlush(candidacy);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException(isDuplicate(e) ? "Candidate already applied to this vacancy"
+                    : "Candidate or vacancy not found", e);
+        }
+        applicantCounter.add(vacancyId, candidacy.getStatus(), 1);
+
+        CandidacyResponse response = candidacyRepository.findResponseById(candidacy.getId()).orElseThrow();
+        outbox.append(OutboxEventType.CANDIDACY_CREATED, response.id(),
+                new CandidacyStatusEvent(response, candidacy.getDecisionDate(), null, null, Instant.now()));
+        return response;
     }
 
     public Optional<CandidacyResponse> getCandidacyById(@NonNull Long id) {
-        return candidacyRepository.findById(id).map(this::toResponse);
+        return candidacyRepository.findResponseById(id);
     }
 
     public Page<CandidacyResponse> getCandidacies(@NonNull Pageable pageable) {
         return candidacyRepository.findAll(pageable).map(this::toResponse);
     }
 
+    @Transactional
     public Optional<CandidacyResponse> updateCandidacyStatus(@NonNull Long id, CandidacyStatus status) {
-        return candidacyRepository.findById(id).map(candidacy -> {
+        return candidacyRepository.lockById(id).map(candidacy -> {
+            CandidacyStatus previousStatus = candidacy.getStatus();
+            LocalDate previousDecisionDate = candidacy.getDecisionDate();
+            if (previousStatus != status && !previousStatus.canTransitionTo(status)) {
+                throw new IllegalStateException("Cannot change a " + previousStatus + " candidacy to " + status);
+            }
+            if (previousStatus != status) {
+                candidacy.setDecisionDate(status.isDecided() ? LocalDate.now() : null);
+            }
             candidacy.setStatus(status);
-            return toResponse(candidacyRepository.save(candidacy));
+            CandidacyResponse response = toResponse(candidacyRepository.save(candidacy));
+            if (previousStatus != status) {
+                applicantCounter.move(candidacy.getVacancy().getId(), previousStatus, status, 1);
+                CandidacyStatusEvent event = new CandidacyStatusEvent(response, candidacy.getDecisionDate(),
+                        previousStatus, previousDecisionDate, Instant.now());
+                outbox.append(OutboxEventType.CANDIDACY_STATUS_CHANGED, response.id(), event);
+                eventPublisher.publishEvent(event);
+            }
+            return response;
         });
     }
 
+    public CandidacyStatusBulkReport updateCandidacyStatuses(CandidacyStatusBulkRequest request) {
+        List<CandidacyStatusOutcome> outcomes = new ArrayList<>();
+        if (request.ids() != null && !request.ids().isEmpty()) {
+            List<Long> ids = request.ids().stream().filter(Objects::nonNull).distinct().toList();
+            if (ids.size() > bulkMaxIds) {
+                throw new IllegalArgumentException("At most " + bulkMaxIds + " candidacies can be updated at once");
+            }
+            for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+                statementBudget.startChunk();
+                outcomes.addAll(transactionTemplate.execute(
+                        status -> transitionChunk(request.vacancyId(), chunk, request.status())));
+            }
+        } else if (request.currentStatus() != null || request.olderThanDays() != null) {
+            LocalDate appliedBefore = request.olderThanDays() != null
+                    ? LocalDate.now().minusDays(request.olderThanDays())
+                    : null;
+            long afterId = 0;
+            List<CandidacyStatusOutcome> chunk;
+            do {
+                long lastId = afterId;
+                statementBudget.startChunk();
+                chunk = transactionTemplate.execute(status -> transitionChunk(request.vacancyId(),
+                        candidacyRepository.findIdsByVacancy(request.vacancyId(), request.currentStatus(),
+                                appliedBefore, lastId, Pageable.ofSize(bulkChunkSize)),
+                        request.status()));
+                outcomes.addAll(chunk);
+                afterId = chunk.isEmpty() ? afterId : chunk.get(chunk.size() - 1).id();
+            } while (chunk.size() == bulkChunkSize);
+        } else {
+            throw new IllegalArgumentException("Either ids or a filter must be informed");
+        }
+
+        long updated = outcomes.stream()
+                .filter(outcome -> outcome.result() == CandidacyStatusOutcome.Result.UPDATED)
+                .count();
+        return new CandidacyStatusBulkReport(outcomes.size(), updated, outcomes);
+    }
+
+    private List<CandidacyStatusOutcome> transitionChunk(Long vacancyId, List<Long> ids, CandidacyStatus target) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CandidacyStatusView> current = candidacyRepository.lockStatuses(vacancyId, ids).stream()
+                .collect(Collectors.toMap(CandidacyStatusView::getId, Function.identity()));
+
+        List<CandidacyStatusOutcome> outcomes = new ArrayList<>(ids.size());
+        List<Long> transitioned = new ArrayList<>();
+        for (Long id : ids) {
+            CandidacyStatus previous = current.containsKey(id) ? current.get(id).getStatus() : null;
+            CandidacyStatusOutcome.Result result;
+            if (previous == null) {
+                result = CandidacyStatusOutcome.Result.NOT_FOUND;
+            } else if (previous == target) {
+                result = CandidacyStatusOutcome.Result.UNCHANGED;
+            } else if (!previous.canTransitionTo(target)) {
+                result = CandidacyStatusOutcome.Result.INVALID_TRANSITION;
+            } else {
+                result = CandidacyStatusOutcome.Result.UPDATED;
+                transitioned.add(id);
+            }
+            outcomes.add(new CandidacyStatusOutcome(id, result, previous));
+        }
+
+        if (!transitioned.isEmpty()) {
+            LocalDate decisionDate = target.isDecided() ? LocalDate.now() : null;
+            candidacyRepository.updateStatus(transitioned, target, decisionDate);
+            Map<CandidacyStatus, Long> deltas = new EnumMap<>(CandidacyStatus.class);
+            for (Long id : transitioned) {
+                deltas.merge(current.get(id).getStatus(), -1L, Long::sum);
+            }
+            deltas.merge(target, (long) transitioned.size(), Long::sum);
+            applicantCounter.apply(vacancyId, deltas);
+            Instant changedAt = Instant.now();
+            for (CandidacyResponse response : candidacyRepository.findResponsesByIds(transitioned)) {
+                CandidacyStatusView previous = current.get(response.id());
+                CandidacyStatusEvent event = new CandidacyStatusEvent(response, decisionDate, previous.getStatus(),
+                        previous.getDecisionDate(), changedAt);
+                outbox.append(OutboxEventType.CANDIDACY_STATUS_CHANGED, response.id(), event);
+                eventPublisher.publishEvent(event);
+            }
+        }
+        return outcomes;
+    }
+
+    @Transactional
     public boolean deleteCandidacy(@NonNull Long id) {
-        if (candidacyRepository.existsById(id)) {
-            candidacyRepository.deleteById(id);
+        return candidacyRepository.lockById(id).map(candidacy -> {
+            CandidacyResponse response = toResponse(candidacy);
+            candidacyRepository.delete(candidacy);
+            applicantCounter.add(candidacy.getVacancy().getId(), candidacy.getStatus(), -1);
+            outbox.append(OutboxEventType.CANDIDACY_DELETED, id,
+                    new CandidacyStatusEvent(response, candidacy.getDecisionDate(), null, null, Instant.now()));
             return true;
-        }
-        return false;
+        }).orElse(false);
     }
 
     public Page<CandidacyResponse> getCandidaciesWithFilters(
@@ -92,34 +272,79 @@ public class CandidacyService {
             String status,
             @NonNull Pageable pageable) {
 
-        return candidacyRepository.findAll(
-                (root, query, cb) -> {
-                    List<Predicate> predicates = new ArrayList<>();
+        return candidacyRepository.findResponses(
+                candidateId,
+                vacancyId,
+                status != null && !status.isBlank() ? CandidacyStatus.valueOf(status) : null,
+                pageable);
+    }
 
-                    if (candidateId != null)
-                        predicates.add(cb.equal(root.get("candidate").get("id"), candidateId));
+    public Page<Map<String, Object>> getCandidaciesWithFields(
+            Long candidateId,
+            Long vacancyId,
+            String status,
+            @NonNull Set<String> fields,
+            @NonNull Pageable pageable) {
 
-                    if (vacancyId != null)
-                        predicates.add(cb.equal(root.get("vacancy").get("id"), vacancyId));
+        return sparseFieldQuery.findPage(SPARSE_FIELDS, fields, filters(candidateId, vacancyId, status), pageable);
+    }
 
-                    if (status != null && !status.isBlank())
-                        predicates.add(cb.equal(root.get("status"), CandidacyStatus.valueOf(status)));
+    public CursorPage<CandidacyResponse> scrollCandidacies(
+            Long candidateId,
+            Long vacancyId,
+            String status,
+            String cursor,
+            int size,
+            @NonNull Sort sort) {
+
+        Sort keysetSort = scrollCursorCodec.withTieBreaker(sort);
+        KeysetScrollPosition position = scrollCursorCodec.decode(cursor, keysetSort, SCROLL_KEYS);
 
-                    return cb.and(predicates.toArray(new Predicate[0]));
-                },
-                pageable).map(this::toResponse);
+        Window<Candidacy> window = candidacyRepository.findBy(filters(candidateId, vacancyId, status),
+                query -> query.sortBy(keysetSort).limit(scrollCursorCodec.limit(size)).scroll(position));
+        return scrollCursorCodec.toPage(window, keysetSort, this::toResponse);
+    }
+
+    private Specification<Candidacy> filters(Long candidateId, Long vacancyId, String status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (candidateId != null)
+                predicates.add(cb.equal(root.get("candidate").get("id"), candidateId));
+
+            if (vacancyId != null)
+                predicates.add(cb.equal(root.get("vacancy").get("id"), vacancyId));
+
+            if (status != null && !status.isBlank())
+                predicates.add(cb.equal(root.get("status"), CandidacyStatus.valueOf(status)));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
     }
 
     public List<CandidacyResponse> getCandidaciesByCandidate(Long candidateId) {
-        return candidacyRepository.findByCandidateId(candidateId).stream()
-                .map(this::toResponse)
-                .toList();
+        return candidacyRepository.findResponsesByCandidateId(candidateId);
+    }
+
+    public boolean isVacancyManagedBy(@NonNull Long vacancyId, Long companyId, String email) {
+        return (companyId != null || email != null) && vacancyRepository.existsManagedBy(vacancyId, companyId, email);
     }
 
     public List<CandidacyResponse> getCandidaciesByVacancy(Long vacancyId) {
-        return candidacyRepository.findByVacancyId(vacancyId).stream()
-                .map(this::toResponse)
-                .toList();
+        return candidacyRepository.findResponsesByVacancyId(vacancyId);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportCandidaciesByVacancy(Long vacancyId, MediaType format, OutputStream out) throws IOException {
+        try (Stream<CandidacyResponse> rows = candidacyRepository.streamResponsesByVacancyId(vacancyId)) {
+            return streamingExporter.write(rows, CandidacyResponse.class, format, out);
+        }
+    }
+
+    private static boolean isDuplicate(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toUpperCase().contains(Candidacy.UNIQUE_APPLICATION);
     }
 
     private CandidacyResponse toResponse(Candidacy candidacy) {
@@ -129,7 +354,7 @@ public class CandidacyService {
                 candidacy.getCandidate().getUser().getName(),
                 candidacy.getVacancy().getId(),
                 candidacy.getVacancy().getTitle(),
-                candidacy.getVacancy().getCompany().getName(),
+                companyService.getCompanyName(candidacy.getVacancy().getCompany().getId()),
                 candidacy.getApplicationDate(),
                 candidacy.getStatus());
     }
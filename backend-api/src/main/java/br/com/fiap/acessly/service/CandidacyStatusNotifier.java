@@ -0,0 +1,242 @@
+package br.com.fiap.acessly.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.fiap.acessly.dto.CandidacyStatusEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class CandidacyStatusNotifier {
+
+    public static final String STATUS_EVENT = "candidacy-status";
+    public static final String RESYNC_EVENT = "resync";
+
+    private record Published(long id, CandidacyStatusEvent event) {
+    }
+
+    private final Map<Long, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis());
+    private final Deque<Published> recent = new ArrayDeque<>();
+    private final ReentrantLock recentLock = new ReentrantLock();
+    private final int replayCapacity;
+    private final Duration connectionTimeout;
+    private final int maxPendingEvents;
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeats;
+
+    public CandidacyStatusNotifier(
+            @Value("${acessly.candidacy-events.replay-capacity:10000}") int replayCapacity,
+            @Value("${acessly.candidacy-events.connection-timeout:30m}") Duration connectionTimeout,
+            @Value("${acessly.candidacy-events.sender-threads:4}") int senderThreads,
+            @Value("${acessly.candidacy-events.send-queue-capacity:10000}") int sendQueueCapacity,
+            @Value("${acessly.candidacy-events.max-pending-events:100}") int maxPendingEvents,
+            @Value("${acessly.candidacy-events.heartbeat:15s}") Duration heartbeat,
+            MeterRegistry meterRegistry) {
+        this.replayCapacity = replayCapacity;
+        this.connectionTimeout = connectionTimeout;
+        this.maxPendingEvents = maxPendingEvents;
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity), new CustomizableThreadFactory("candidacy-events-"));
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("candidacy-events-heartbeat-"));
+        heartbeats.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+        Gauge.builder("candidacy.events.connections", connections, AtomicLong::get)
+                .description("Open candidacy status event streams")
+                .register(meterRegistry);
+        Gauge.builder("candidacy.events.sends.queued", sender, executor -> executor.getQueue().size())
+                .description("Candidacy event streams waiting for a sender thread")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Long candidateId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        Subscription subscription = new Subscription(emitter);
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(candidateId, (id, subscriptions) -> {
+            if (subscriptions.remove(subscription)) {
+                connections.decrementAndGet();
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        recentLock.lock();
+        try {
+            subscribers.compute(candidateId, (id, subscriptions) -> {
+                Set<Subscription> registered = subscriptions != null ? subscriptions : new CopyOnWriteArraySet<>();
+                registered.add(subscription);
+                return registered;
+            });
+            connections.incrementAndGet();
+            boolean gap = lastEventId != null && (recent.isEmpty() ? lastEventId < sequence.get()
+                    : lastEventId < recent.peekFirst().id() - 1);
+            if (gap) {
+                subscription.enqueue(
+                        SseEmitter.event().id(String.valueOf(sequence.get())).name(RESYNC_EVENT).data(""));
+            } else if (lastEventId != null) {
+                for (Published published : recent) {
+                    if (published.id() > lastEventId
+                            && published.event().candidacy().candidateId().equals(candidateId)) {
+                        subscription.enqueue(toEvent(published));
+                    }
+                }
+            }
+        } finally {
+            recentLock.unlock();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(CandidacyStatusEvent event) {
+        recentLock.lock();
+        try {
+            Published published = new Published(sequence.incrementAndGet(), event);
+            recent.addLast(published);
+            if (recent.size() > replayCapacity) {
+                recent.removeFirst();
+            }
+
+            Set<Subscription> subscriptions = subscribers.get(event.candidacy().candidateId());
+            if (subscriptions != null) {
+                subscriptions.forEach(subscription -> subscription.enqueue(toEvent(published)));
+            }
+        } finally {
+            recentLock.unlock();
+        }
+    }
+
+    /**
+     * Splits the open streams into one batch per sender thread, so a heartbeat takes a handful of queue slots
+     * however many clients are connected. A batch that does not fit is simply skipped until the next heartbeat.
+     */
+    void heartbeat() {
+        int threads = sender.getCorePoolSize();
+        List<List<Subscription>> batches = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            batches.add(new ArrayList<>());
+        }
+        int next = 0;
+        for (Set<Subscription> subscriptions : subscribers.values()) {
+            for (Subscription subscription : subscriptions) {
+                batches.get(next++ % threads).add(subscription);
+            }
+        }
+        for (List<Subscription> batch : batches) {
+            if (batch.isEmpty())
+                continue;
+            try {
+                sender.execute(() -> batch.forEach(Subscription::beat));
+            } catch (RejectedExecutionException e) {
+                return;
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Published published) {
+        return SseEmitter.event()
+                .id(String.valueOf(published.id()))
+                .name(STATUS_EVENT)
+                .data(published.event());
+    }
+
+    /**
+     * Events of one stream are queued and written in order by a single sender thread at a time, so a slow client
+     * never holds up the transaction that published the event, the heartbeat or the other streams. A client that
+     * falls more than {@code max-pending-events} behind is disconnected and resumes with Last-Event-ID. When the
+     * sender queue is full the events stay pending and the next event or heartbeat tries again.
+     */
+    private final class Subscription {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscription(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (size.incrementAndGet() > maxPendingEvents) {
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            schedule();
+        }
+
+        private void schedule() {
+            if (pending.isEmpty() || !draining.compareAndSet(false, true))
+                return;
+            try {
+                sender.execute(() -> drain(false));
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+            }
+        }
+
+        private void beat() {
+            if (draining.compareAndSet(false, true)) {
+                drain(pending.isEmpty());
+            }
+        }
+
+        private void drain(boolean heartbeat) {
+            try {
+                if (heartbeat) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                pending.clear();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            schedule();
+        }
+    }
+}
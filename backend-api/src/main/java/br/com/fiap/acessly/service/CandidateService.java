@@ -2,15 +2,22 @@ package br.com.fiap.acessly.service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 
 import br.com.fiap.acessly.dto.CandidateRequest;
 import br.com.fiap.acessly.dto.CandidateResponse;
+import br.com.fiap.acessly.dto.VacancyRecommendation;
+import br.com.fiap.acessly.dto.VacancyResponse;
 import br.com.fiap.acessly.model.Candidate;
 import br.com.fiap.acessly.model.User;
 import br.com.fiap.acessly.repository.CandidateRepository;
@@ -20,12 +27,28 @@ import jakarta.persistence.criteria.Predicate;
 @Service
 public class CandidateService {
 
+    private static final int MAX_RECOMMENDATIONS = 100;
+
+    private static final SparseFieldQuery.Fields<Candidate> SPARSE_FIELDS = SparseFieldQuery.Fields.of(Candidate.class)
+            .field("userId", "user.id")
+            .field("disabilityType")
+            .field("skills")
+            .field("experience")
+            .field("requiredAcessibility");
+
     private final CandidateRepository candidateRepository;
     private final UserRepository userRepository;
+    private final VacancyMatcher vacancyMatcher;
+    private final VacancyService vacancyService;
+    private final SparseFieldQuery sparseFieldQuery;
 
-    public CandidateService(CandidateRepository candidateRepository, UserRepository userRepository) {
+    public CandidateService(CandidateRepository candidateRepository, UserRepository userRepository,
+            VacancyMatcher vacancyMatcher, VacancyService vacancyService, SparseFieldQuery sparseFieldQuery) {
         this.candidateRepository = candidateRepository;
         this.userRepository = userRepository;
+        this.vacancyMatcher = vacancyMatcher;
+        this.vacancyService = vacancyService;
+        this.sparseFieldQuery = sparseFieldQuery;
     }
 
     @SuppressWarnings("null")
@@ -48,6 +71,7 @@ public class CandidateService {
                 .build();
 
         candidate = candidateRepository.save(candidate);
+        vacancyMatcher.indexCandidate(candidate);
         return toResponse(candidate);
     }
 
@@ -78,13 +102,16 @@ public class CandidateService {
             candidate.setExperience(request.experience());
             candidate.setRequiredAcessibility(request.requiredAcessibility());
 
-            return toResponse(candidateRepository.save(candidate));
+            Candidate saved = candidateRepository.save(candidate);
+            vacancyMatcher.indexCandidate(saved);
+            return toResponse(saved);
         });
     }
 
     public boolean deleteCandidate(@NonNull Long id) {
         if (candidateRepository.existsById(id)) {
             candidateRepository.deleteById(id);
+            vacancyMatcher.removeCandidate(id);
             return true;
         }
         return false;
@@ -95,19 +122,48 @@ public class CandidateService {
             String skills,
             @NonNull Pageable pageable) {
 
-        return candidateRepository.findAll(
-                (root, query, cb) -> {
-                    List<Predicate> predicates = new ArrayList<>();
+        return candidateRepository.findAll(filters(disabilityType, skills), pageable).map(this::toResponse);
+    }
+
+    public Page<Map<String, Object>> getCandidatesWithFields(
+            String disabilityType,
+            String skills,
+            @NonNull Set<String> fields,
+            @NonNull Pageable pageable) {
 
-                    if (disabilityType != null && !disabilityType.isBlank())
-                        predicates.add(cb.equal(root.get("disabilityType"), disabilityType));
+        return sparseFieldQuery.findPage(SPARSE_FIELDS, fields, filters(disabilityType, skills), pageable);
+    }
 
-                    if (skills != null && !skills.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("skills")), "%" + skills.toLowerCase() + "%"));
+    private Specification<Candidate> filters(String disabilityType, String skills) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (disabilityType != null && !disabilityType.isBlank())
+                predicates.add(cb.equal(root.get("disabilityType"), disabilityType));
+
+            if (skills != null && !skills.isBlank())
+                predicates.add(cb.like(cb.lower(root.get("skills")), "%" + skills.toLowerCase() + "%"));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public Optional<List<VacancyRecommendation>> recommendVacancies(@NonNull Long id, int limit) {
+        return vacancyMatcher.recommend(id, Math.max(1, Math.min(limit, MAX_RECOMMENDATIONS))).map(matches -> {
+            Map<Long, VacancyResponse> vacancies = vacancyService
+                    .getVacanciesByIds(matches.stream().map(VacancyMatcher.Match::vacancyId).toList()).stream()
+                    .collect(Collectors.toMap(VacancyResponse::id, Function.identity()));
+
+            return matches.stream()
+                    .filter(match -> vacancies.containsKey(match.vacancyId()))
+                    .map(match -> new VacancyRecommendation(vacancies.get(match.vacancyId()), round(match.score()),
+                            round(match.accessibility()), round(match.skills()), round(match.location())))
+                    .toList();
+        });
+    }
 
-                    return cb.and(predicates.toArray(new Predicate[0]));
-                },
-                pageable).map(this::toResponse);
+    private static double round(double score) {
+        return Math.round(score * 1000) / 1000.0;
     }
 
     private CandidateResponse toResponse(Candidate candidate) {
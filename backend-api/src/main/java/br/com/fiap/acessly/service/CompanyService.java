@@ -1,15 +1,24 @@
 package br.com.fiap.acessly.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import br.com.fiap.acessly.dto.CompanyRequest;
 import br.com.fiap.acessly.dto.CompanyResponse;
+import br.com.fiap.acessly.dto.ImportReport;
 import br.com.fiap.acessly.model.Company;
 import br.com.fiap.acessly.model.User;
 import br.com.fiap.acessly.repository.CompanyRepository;
@@ -20,12 +29,30 @@ import lombok.NonNull;
 @Service
 public class CompanyService {
 
+    public static final String COMPANIES_CACHE = "companies";
+    public static final String COMPANY_NAMES_CACHE = "companyNames";
+
+    private static final SparseFieldQuery.Fields<Company> SPARSE_FIELDS = SparseFieldQuery.Fields.of(Company.class)
+            .field("name")
+            .field("sector")
+            .field("acessibilityType")
+            .field("website")
+            .field("description")
+            .field("userId", "user.id");
+
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final BulkImporter bulkImporter;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final TypeaheadIndex typeaheadIndex;
 
-    public CompanyService(CompanyRepository companyRepository, UserRepository userRepository) {
+    public CompanyService(CompanyRepository companyRepository, UserRepository userRepository,
+            BulkImporter bulkImporter, SparseFieldQuery sparseFieldQuery, TypeaheadIndex typeaheadIndex) {
         this.companyRepository = companyRepository;
         this.userRepository = userRepository;
+        this.bulkImporter = bulkImporter;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.typeaheadIndex = typeaheadIndex;
     }
 
     @SuppressWarnings("null")
@@ -39,19 +66,27 @@ public class CompanyService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        Company company = Company.builder()
-                .user(user)
-                .name(request.name())
-                .sector(request.sector())
-                .acessibilityType(request.acessibilityType())
-                .website(request.website())
-                .description(request.description())
-                .build();
-
-        company = companyRepository.save(company);
+        Company company = companyRepository.save(toEntity(request, user));
+        typeaheadIndex.indexCompany(company);
         return toResponse(company);
     }
 
+    public ImportReport importCompanies(InputStream body, MediaType contentType) throws IOException {
+        return bulkImporter.importRows(body, contentType, new BulkImporter.Plan<>(
+                CompanyRequest.class,
+                CompanyRequest::userId,
+                userRepository::findExistingIds,
+                "User not found",
+                request -> toEntity(request, userRepository.getReferenceById(request.userId())),
+                companyRepository,
+                saved -> saved.forEach(typeaheadIndex::indexCompany)));
+    }
+
+    public Optional<String> getCompanyVersionTag(@NonNull Long id) {
+        return companyRepository.findVersionTagById(id);
+    }
+
+    @Cacheable(cacheNames = COMPANIES_CACHE, key = "#id", unless = "#result == null")
     public Optional<CompanyResponse> getCompanyById(@NonNull Long id) {
         return companyRepository.findById(id).map(this::toResponse);
     }
@@ -60,6 +95,12 @@ public class CompanyService {
         return companyRepository.findAll(pageable).map(this::toResponse);
     }
 
+    @Cacheable(cacheNames = COMPANY_NAMES_CACHE, key = "#id", unless = "#result == null")
+    public String getCompanyName(@NonNull Long id) {
+        return companyRepository.findNameById(id).orElse(null);
+    }
+
+    @CacheEvict(cacheNames = { COMPANIES_CACHE, COMPANY_NAMES_CACHE }, key = "#id")
     public Optional<CompanyResponse> updateCompany(@NonNull Long id, CompanyRequest request) {
         return companyRepository.findById(id).map(company -> {
             Long userId = request.userId();
@@ -77,18 +118,33 @@ public class CompanyService {
             company.setWebsite(request.website());
             company.setDescription(request.description());
 
-            return toResponse(companyRepository.save(company));
+            Company saved = companyRepository.save(company);
+            typeaheadIndex.indexCompany(saved);
+            return toResponse(saved);
         });
     }
 
+    @CacheEvict(cacheNames = { COMPANIES_CACHE, COMPANY_NAMES_CACHE }, key = "#id")
     public boolean deleteCompany(long id) {
         if (companyRepository.existsById(id)) {
             companyRepository.deleteById(id);
+            typeaheadIndex.removeCompany(id);
             return true;
         }
         return false;
     }
 
+    private Company toEntity(CompanyRequest request, User user) {
+        return Company.builder()
+                .user(user)
+                .name(request.name())
+                .sector(request.sector())
+                .acessibilityType(request.acessibilityType())
+                .website(request.website())
+                .description(request.description())
+                .build();
+    }
+
     private CompanyResponse toResponse(Company company) {
         return new CompanyResponse(
                 company.getId(),
@@ -102,18 +158,25 @@ public class CompanyService {
 
     public Page<CompanyResponse> getCompaniesWithFilters(String name, String sector, String acessibilityType,
             @NonNull Pageable pageable) {
-        return companyRepository.findAll(
-                (root, query, cb) -> {
-                    List<Predicate> predicates = new ArrayList<>();
-                    if (name != null && !name.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
-                    if (sector != null && !sector.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("sector")), "%" + sector.toLowerCase() + "%"));
-                    if (acessibilityType != null && !acessibilityType.isBlank())
-                        predicates.add(cb.equal(root.get("acessibilityType"), acessibilityType));
-                    return cb.and(predicates.toArray(new Predicate[0]));
-                },
-                pageable).map(this::toResponse);
+        return companyRepository.findAll(filters(name, sector, acessibilityType), pageable).map(this::toResponse);
+    }
+
+    public Page<Map<String, Object>> getCompaniesWithFields(String name, String sector, String acessibilityType,
+            @NonNull Set<String> fields, @NonNull Pageable pageable) {
+        return sparseFieldQuery.findPage(SPARSE_FIELDS, fields, filters(name, sector, acessibilityType), pageable);
+    }
+
+    private Specification<Company> filters(String name, String sector, String acessibilityType) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (name != null && !name.isBlank())
+                predicates.add(cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%"));
+            if (sector != null && !sector.isBlank())
+                predicates.add(cb.like(cb.lower(root.get("sector")), "%" + sector.toLowerCase() + "%"));
+            if (acessibilityType != null && !acessibilityType.isBlank())
+                predicates.add(cb.equal(root.get("acessibilityType"), acessibilityType));
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
     }
 
 }
@@ -1,15 +1,25 @@
 package br.com.fiap.acessly.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import br.com.fiap.acessly.dto.CompanySupportRequest;
 import br.com.fiap.acessly.dto.CompanySupportResponse;
+import br.com.fiap.acessly.dto.CursorPage;
+import br.com.fiap.acessly.dto.ImportReport;
 import br.com.fiap.acessly.model.Company;
 import br.com.fiap.acessly.model.CompanySupport;
 import br.com.fiap.acessly.repository.CompanyRepository;
@@ -20,13 +30,22 @@ import lombok.NonNull;
 @Service
 public class CompanySupportService {
 
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("id", Long.class, "supportType", String.class);
+
     private final CompanySupportRepository companySupportRepository;
     private final CompanyRepository companyRepository;
+    private final CompanyService companyService;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final BulkImporter bulkImporter;
 
     public CompanySupportService(br.com.fiap.acessly.repository.CompanySupportRepository companySupportRepository,
-            CompanyRepository companyRepository) {
+            CompanyRepository companyRepository, CompanyService companyService, ScrollCursorCodec scrollCursorCodec,
+            BulkImporter bulkImporter) {
         this.companySupportRepository = companySupportRepository;
         this.companyRepository = companyRepository;
+        this.companyService = companyService;
+        this.scrollCursorCodec = scrollCursorCodec;
+        this.bulkImporter = bulkImporter;
     }
 
     @SuppressWarnings("null")
@@ -37,16 +56,17 @@ public class CompanySupportService {
             throw new IllegalArgumentException("Company ID cannot be null");
         }
 
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new RuntimeException("Company not found"));
-
-        CompanySupport companySupport = CompanySupport.builder()
-                .company(company)
-                .supportType(request.supportType())
-                .description(request.description())
-                .build();
+        return toResponse(companySupportRepository.save(toEntity(request, companyReference(companyId))));
+    }
 
-        return toResponse(companySupportRepository.save(companySupport));
+    public ImportReport importCompanySupports(InputStream body, MediaType contentType) throws IOException {
+        return bulkImporter.importRows(body, contentType, new BulkImporter.Plan<>(
+                CompanySupportRequest.class,
+                CompanySupportRequest::companyId,
+                companyRepository::findExistingIds,
+                "Company not found",
+                request -> toEntity(request, companyRepository.getReferenceById(request.companyId())),
+                companySupportRepository));
     }
 
     public Optional<CompanySupportResponse> getCompanySupportById(@NonNull Long id) {
@@ -65,10 +85,7 @@ public class CompanySupportService {
                 throw new IllegalArgumentException("Company ID cannot be null");
             }
 
-            Company company = companyRepository.findById(companyId)
-                    .orElseThrow(() -> new RuntimeException("Company not found"));
-
-            companySupport.setCompany(company);
+            companySupport.setCompany(companyReference(companyId));
             companySupport.setSupportType(request.supportType());
             companySupport.setDescription(request.description());
 
@@ -89,20 +106,41 @@ public class CompanySupportService {
             String supportType,
             @NonNull Pageable pageable) {
 
-        return companySupportRepository.findAll(
-                (root, query, cb) -> {
-                    List<Predicate> predicates = new ArrayList<>();
+        return companySupportRepository.findAll(filters(companyId, supportType), pageable).map(this::toResponse);
+    }
 
-                    if (companyId != null)
-                        predicates.add(cb.equal(root.get("company").get("id"), companyId));
+    public CursorPage<CompanySupportResponse> scrollCompanySupports(
+            Long companyId,
+            String supportType,
+            String cursor,
+            int size,
+            @NonNull Sort sort) {
 
-                    if (supportType != null && !supportType.isBlank())
-                        predicates
-                                .add(cb.like(cb.lower(root.get("supportType")), "%" + supportType.toLowerCase() + "%"));
+        Sort keysetSort = scrollCursorCodec.withTieBreaker(sort);
+        KeysetScrollPosition position = scrollCursorCodec.decode(cursor, keysetSort, SCROLL_KEYS);
 
-                    return cb.and(predicates.toArray(new Predicate[0]));
-                },
-                pageable).map(this::toResponse);
+        Window<CompanySupport> window = companySupportRepository.findBy(filters(companyId, supportType),
+                query -> query.sortBy(keysetSort).limit(scrollCursorCodec.limit(size)).scroll(position));
+        return scrollCursorCodec.toPage(window, keysetSort, this::toResponse);
+    }
+
+    private Specification<CompanySupport> filters(Long companyId, String supportType) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (companyId != null)
+                predicates.add(cb.equal(root.get("company").get("id"), companyId));
+
+            if (supportType != null && !supportType.isBlank())
+                predicates
+                        .add(cb.like(cb.lower(root.get("supportType")), "%" + supportType.toLowerCase() + "%"));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public Optional<String> getSupportByCompanyVersionTag(Long companyId) {
+        return companySupportRepository.findListVersionTagByCompanyId(companyId);
     }
 
     public List<CompanySupportResponse> getSupportByCompany(Long companyId) {
@@ -111,11 +149,26 @@ public class CompanySupportService {
                 .toList();
     }
 
+    private Company companyReference(Long companyId) {
+        if (companyService.getCompanyName(companyId) == null) {
+            throw new RuntimeException("Company not found");
+        }
+        return companyRepository.getReferenceById(companyId);
+    }
+
+    private CompanySupport toEntity(CompanySupportRequest request, Company company) {
+        return CompanySupport.builder()
+                .company(company)
+                .supportType(request.supportType())
+                .description(request.description())
+                .build();
+    }
+
     private CompanySupportResponse toResponse(CompanySupport companySupport) {
         return new CompanySupportResponse(
                 companySupport.getId(),
                 companySupport.getCompany().getId(),
-                companySupport.getCompany().getName(),
+                companyService.getCompanyName(companySupport.getCompany().getId()),
                 companySupport.getSupportType(),
                 companySupport.getDescription());
     }
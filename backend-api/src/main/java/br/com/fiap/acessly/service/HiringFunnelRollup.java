@@ -0,0 +1,217 @@
+package br.com.fiap.acessly.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.dto.CandidacyStatusEvent;
+import br.com.fiap.acessly.dto.HiringFunnelDay;
+import br.com.fiap.acessly.dto.HiringFunnelReport;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.OutboxEvent;
+import br.com.fiap.acessly.model.OutboxEventType;
+import br.com.fiap.acessly.repository.HiringDayView;
+import br.com.fiap.acessly.repository.HiringRollupRepository;
+
+/**
+ * Keeps the daily rollups behind the hiring funnel. The rollups are fed from the candidacy events of the outbox, so
+ * candidacy writes do not wait for the upserts and a failed upsert is retried with the event.
+ */
+@Component
+public class HiringFunnelRollup implements OutboxEventConsumer {
+
+    private static final String UPDATE_APPLICATIONS = """
+            update hiring_daily_rollup set applications = applications + ?
+            where vacancy_id = ? and rollup_date = ?
+            """;
+    private static final String INSERT_APPLICATIONS = """
+            insert into hiring_daily_rollup (applications, vacancy_id, rollup_date) values (?, ?, ?)
+            """;
+    private static final String UPDATE_DECISIONS = """
+            update hiring_decision_rollup set approvals = approvals + ?, rejections = rejections + ?
+            where vacancy_id = ? and rollup_date = ? and days_to_decision = ?
+            """;
+    private static final String INSERT_DECISIONS = """
+            insert into hiring_decision_rollup (approvals, rejections, vacancy_id, rollup_date, days_to_decision)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private static final class Delta {
+
+        private final SortedMap<LocalDate, Long> applications = new TreeMap<>();
+        private final SortedMap<DecisionKey, long[]> decisions = new TreeMap<>();
+
+        private Delta applied(LocalDate applicationDate, long applicants) {
+            applications.merge(applicationDate, applicants, Long::sum);
+            return this;
+        }
+
+        private Delta decided(LocalDate applicationDate, CandidacyStatus status, LocalDate decisionDate,
+                long applicants) {
+            if (!status.isDecided() || decisionDate == null) {
+                return this;
+            }
+
+            int days = (int) Math.max(0, ChronoUnit.DAYS.between(applicationDate, decisionDate));
+            long[] counts = decisions.computeIfAbsent(new DecisionKey(decisionDate, days), key -> new long[2]);
+            counts[status == CandidacyStatus.APPROVED ? 0 : 1] += applicants;
+            return this;
+        }
+    }
+
+    private record DecisionKey(LocalDate date, int days) implements Comparable<DecisionKey> {
+
+        private static final Comparator<DecisionKey> ORDER = Comparator.comparing(DecisionKey::date)
+                .thenComparingInt(DecisionKey::days);
+
+        @Override
+        public int compareTo(DecisionKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HiringRollupRepository hiringRollupRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxDays;
+
+    public HiringFunnelRollup(JdbcTemplate jdbcTemplate, HiringRollupRepository hiringRollupRepository,
+            ObjectMapper objectMapper, @Value("${acessly.hiring-funnel.max-days:366}") int maxDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hiringRollupRepository = hiringRollupRepository;
+        this.objectMapper = objectMapper;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return EnumSet.of(OutboxEventType.CANDIDACY_CREATED, OutboxEventType.CANDIDACY_STATUS_CHANGED,
+                OutboxEventType.CANDIDACY_DELETED);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void accept(OutboxEvent event) throws JsonProcessingException {
+        CandidacyStatusEvent change = objectMapper.readValue(event.getPayload(), CandidacyStatusEvent.class);
+        CandidacyResponse candidacy = change.candidacy();
+        LocalDate applied = candidacy.applicationDate();
+        Delta delta = switch (event.getEventType()) {
+            case CANDIDACY_CREATED -> new Delta()
+                    .applied(applied, 1)
+                    .decided(applied, candidacy.status(), change.decisionDate(), 1);
+            case CANDIDACY_DELETED -> new Delta()
+                    .applied(applied, -1)
+                    .decided(applied, candidacy.status(), change.decisionDate(), -1);
+            default -> new Delta()
+                    .decided(applied, change.previousStatus(), change.previousDecisionDate(), -1)
+                    .decided(applied, candidacy.status(), change.decisionDate(), 1);
+        };
+        apply(candidacy.vacancyId(), delta);
+    }
+
+    private void apply(Long vacancyId, Delta delta) {
+        delta.applications.forEach((date, applicants) -> {
+            if (applicants != 0) {
+                upsert(UPDATE_APPLICATIONS, INSERT_APPLICATIONS, applicants, vacancyId, date);
+            }
+        });
+        delta.decisions.forEach((key, counts) -> {
+            if (counts[0] != 0 || counts[1] != 0) {
+                upsert(UPDATE_DECISIONS, INSERT_DECISIONS, counts[0], counts[1], vacancyId, key.date(), key.days());
+            }
+        });
+    }
+
+    private void upsert(String update, String insert, Object... args) {
+        if (jdbcTemplate.update(update, args) == 0) {
+            try {
+                jdbcTemplate.update(insert, args);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(update, args);
+            }
+        }
+    }
+
+    public HiringFunnelReport report(Long companyId, Long vacancyId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new IllegalArgumentException("The period must have between 1 and " + maxDays + " days");
+        }
+
+        Map<LocalDate, Long> applications = new HashMap<>();
+        for (HiringDayView day : hiringRollupRepository.findApplicationsByDay(companyId, vacancyId, from, to)) {
+            applications.put(day.getRollupDate(), day.getApplications());
+        }
+
+        Map<LocalDate, long[]> decisions = new HashMap<>();
+        Map<LocalDate, SortedMap<Integer, Long>> daysToDecision = new HashMap<>();
+        SortedMap<Integer, Long> periodDaysToDecision = new TreeMap<>();
+        for (HiringDayView day : hiringRollupRepository.findDecisionsByDay(companyId, vacancyId, from, to)) {
+            long[] counts = decisions.computeIfAbsent(day.getRollupDate(), date -> new long[2]);
+            counts[0] += day.getApprovals();
+            counts[1] += day.getRejections();
+
+            long decided = day.getApprovals() + day.getRejections();
+            daysToDecision.computeIfAbsent(day.getRollupDate(), date -> new TreeMap<>())
+                    .merge(day.getDaysToDecision(), decided, Long::sum);
+            periodDaysToDecision.merge(day.getDaysToDecision(), decided, Long::sum);
+        }
+
+        List<HiringFunnelDay> days = new ArrayList<>();
+        long totalApplications = 0;
+        long totalApprovals = 0;
+        long totalRejections = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            long applied = applications.getOrDefault(date, 0L);
+            long[] counts = decisions.getOrDefault(date, new long[2]);
+            days.add(new HiringFunnelDay(date, applied, counts[0], counts[1],
+                    median(daysToDecision.getOrDefault(date, new TreeMap<>()))));
+            totalApplications += applied;
+            totalApprovals += counts[0];
+            totalRejections += counts[1];
+        }
+
+        return new HiringFunnelReport(companyId, vacancyId, from, to, totalApplications, totalApprovals,
+                totalRejections, median(periodDaysToDecision), days);
+    }
+
+    private static Double median(SortedMap<Integer, Long> histogram) {
+        long total = histogram.values().stream().mapToLong(count -> Math.max(count, 0)).sum();
+        if (total == 0) {
+            return null;
+        }
+
+        long lowerRank = (total + 1) / 2;
+        long upperRank = total / 2 + 1;
+        Integer lower = null;
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : histogram.entrySet()) {
+            seen += Math.max(entry.getValue(), 0);
+            if (lower == null && seen >= lowerRank) {
+                lower = entry.getKey();
+            }
+            if (seen >= upperRank) {
+                return (lower + entry.getKey()) / 2.0;
+            }
+        }
+        return lower.doubleValue();
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.fiap.acessly.service;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.repository.VacancyLocationView;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+/**
+ * Recomputes the stored city and state keys of every vacancy with {@link LocationKey}, so rows written before the
+ * keys existed, or before the folding rules changed, match the filters exactly like new rows do.
+ */
+@Component
+public class LocationKeyBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationKeyBackfill.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final VacancyRepository vacancyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean onStartup;
+
+    public LocationKeyBackfill(VacancyRepository vacancyRepository, TransactionTemplate transactionTemplate,
+            @Value("${acessly.location-keys.refold-on-startup:true}") boolean onStartup) {
+        this.vacancyRepository = vacancyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (onStartup) {
+            refold();
+        }
+    }
+
+    public int refold() {
+        int refolded = 0;
+        long lastId = 0L;
+        int read;
+        do {
+            List<VacancyLocationView> batch = vacancyRepository.findLocations(lastId, Pageable.ofSize(BATCH_SIZE));
+            Integer updated = transactionTemplate.execute(status -> refold(batch));
+            refolded += updated != null ? updated : 0;
+            read = batch.size();
+            if (read > 0) {
+                lastId = batch.get(read - 1).getId();
+            }
+        } while (read == BATCH_SIZE);
+
+        if (refolded > 0) {
+            log.info("Refolded the location keys of {} vacancies", refolded);
+        }
+        return refolded;
+    }
+
+    private int refold(List<VacancyLocationView> batch) {
+        int updated = 0;
+        for (VacancyLocationView vacancy : batch) {
+            String cityKey = LocationKey.fold(vacancy.getCity());
+            String stateKey = LocationKey.state(vacancy.getState());
+            if (!Objects.equals(cityKey, vacancy.getCityKey()) || !Objects.equals(stateKey, vacancy.getStateKey())) {
+                updated += vacancyRepository.updateLocationKeys(vacancy.getId(), cityKey, stateKey);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,157 @@
+package br.com.fiap.acessly.service;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.fiap.acessly.model.OutboxEvent;
+import br.com.fiap.acessly.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventConsumer> consumers;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration pendingRefresh;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private volatile Instant pendingRefreshedAt = Instant.EPOCH;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxEventConsumer> consumers,
+            TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${acessly.outbox.batch-size:100}") int batchSize,
+            @Value("${acessly.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${acessly.outbox.retention:7d}") Duration retention,
+            @Value("${acessly.outbox.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${acessly.outbox.max-retry-backoff:30m}") Duration maxRetryBackoff,
+            @Value("${acessly.outbox.pending-refresh:30s}") Duration pendingRefresh) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumers = consumers;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.pendingRefresh = pendingRefresh;
+        Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+                .description("Outbox events not yet delivered, refreshed by the dispatcher")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${acessly.outbox.poll-interval:1s}")
+    public void dispatchPending() {
+        int dispatched;
+        do {
+            dispatched = dispatchBatch();
+        } while (dispatched == batchSize);
+
+        Instant now = Instant.now();
+        if (!now.isBefore(pendingRefreshedAt.plus(pendingRefresh))) {
+            pendingEvents.set(outboxEventRepository.countByProcessedAtIsNull());
+            pendingRefreshedAt = now;
+        }
+    }
+
+    public int dispatchBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch;
+            try (Stream<OutboxEvent> pending = outboxEventRepository.streamPendingForUpdate(maxAttempts,
+                    Instant.now())) {
+                batch = pending.limit(batchSize).toList();
+            }
+            batch.forEach(this::deliver);
+            return batch.size();
+        });
+        return claimed != null ? claimed : 0;
+    }
+
+    @Scheduled(cron = "${acessly.outbox.purge-cron:0 0 * * * *}")
+    public void purgeProcessed() {
+        transactionTemplate.executeWithoutResult(
+                status -> outboxEventRepository.deleteProcessedBefore(Instant.now().minus(retention)));
+    }
+
+    /**
+     * Runs the consumers of one event behind a savepoint of the batch transaction, so a consumer that fails halfway
+     * leaves none of its writes behind and the retry does not apply them twice. Hibernate cannot create savepoints
+     * itself; the session is flushed first so rolling back to the savepoint never discards flushed entity state.
+     */
+    private void deliver(OutboxEvent event) {
+        outboxEventRepository.flush();
+        Savepoint savepoint = jdbcTemplate.execute((ConnectionCallback<Savepoint>) Connection::setSavepoint);
+        try {
+            for (OutboxEventConsumer consumer : consumers) {
+                if (consumer.eventTypes().contains(event.getEventType())) {
+                    consumer.accept(event);
+                }
+            }
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.releaseSavepoint(savepoint);
+                return null;
+            });
+            event.setProcessedAt(Instant.now());
+            event.setNextAttemptAt(null);
+            event.setLastError(null);
+            count(event, "delivered");
+        } catch (Exception e) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.rollback(savepoint);
+                return null;
+            });
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(Instant.now().plus(backoff(event.getAttempts())));
+            event.setLastError(truncate(e.toString()));
+            count(event, event.getAttempts() >= maxAttempts ? "abandoned" : "failed");
+            log.warn("Outbox event {} ({}) failed on attempt {}", event.getId(), event.getEventType(),
+                    event.getAttempts(), e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private void count(OutboxEvent event, String outcome) {
+        Counter.builder("outbox.events.dispatched")
+                .description("Outbox events handed to consumers")
+                .tag("type", event.getEventType().name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.fiap.acessly.service;
+
+import java.util.Set;
+
+import br.com.fiap.acessly.model.OutboxEvent;
+import br.com.fiap.acessly.model.OutboxEventType;
+
+public interface OutboxEventConsumer {
+
+    Set<OutboxEventType> eventTypes();
+
+    void accept(OutboxEvent event) throws Exception;
+}
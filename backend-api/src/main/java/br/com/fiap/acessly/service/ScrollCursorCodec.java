@@ -0,0 +1,97 @@
+package br.com.fiap.acessly.service;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.dto.CursorPage;
+
+@Component
+public class ScrollCursorCodec {
+
+    private static final int MAX_SIZE = 100;
+
+    private record Cursor(List<String> sort, Map<String, Object> keys) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    public ScrollCursorCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Sort withTieBreaker(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+    }
+
+    public int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public KeysetScrollPosition decode(String cursor, Sort sort, Map<String, Class<?>> keyTypes) {
+        for (Sort.Order order : sort) {
+            if (!keyTypes.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Sorting by " + order.getProperty() + " is not supported");
+            }
+        }
+
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Cursor decoded;
+        try {
+            decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), Cursor.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+
+        if (decoded.keys() == null || !signature(sort).equals(decoded.sort())) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object value = decoded.keys().get(order.getProperty());
+            if (value == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            keys.put(order.getProperty(), objectMapper.convertValue(value, keyTypes.get(order.getProperty())));
+        }
+        if (keys.size() != decoded.keys().size()) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public <T, R> CursorPage<R> toPage(Window<T> window, Sort sort, Function<T, R> mapper) {
+        String nextCursor = null;
+
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            try {
+                nextCursor = Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString(objectMapper.writeValueAsBytes(new Cursor(signature(sort), position.getKeys())));
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not encode cursor", e);
+            }
+        }
+
+        return new CursorPage<>(window.getContent().stream().map(mapper).toList(), nextCursor, nextCursor != null);
+    }
+
+    private static List<String> signature(Sort sort) {
+        return sort.stream().map(order -> order.getProperty() + "," + order.getDirection()).toList();
+    }
+}
@@ -0,0 +1,206 @@
+package br.com.fiap.acessly.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+@Component
+public class SparseFieldQuery {
+
+    public static final class Fields<T> {
+
+        private final Class<T> entity;
+        private final Map<String, String> paths = new LinkedHashMap<>();
+
+        private Fields(Class<T> entity) {
+            this.entity = entity;
+        }
+
+        public static <T> Fields<T> of(Class<T> entity) {
+            return new Fields<>(entity).field("id");
+        }
+
+        public Fields<T> field(String name) {
+            return field(name, name);
+        }
+
+        public Fields<T> field(String name, String path) {
+            paths.put(name, path);
+            return this;
+        }
+
+        private Set<String> select(Set<String> requested, Sort sort) {
+            for (String field : requested) {
+                if (!paths.containsKey(field)) {
+                    throw new IllegalArgumentException("Unknown field: " + field);
+                }
+            }
+
+            Set<String> selected = new LinkedHashSet<>();
+            for (String field : paths.keySet()) {
+                if (field.equals("id") || requested.contains(field) || sort.getOrderFor(field) != null) {
+                    selected.add(field);
+                }
+            }
+            return selected;
+        }
+    }
+
+    private final EntityManager entityManager;
+
+    public SparseFieldQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public <T> Page<Map<String, Object>> findPage(Fields<T> fields, Set<String> requested,
+            Specification<T> specification, Pageable pageable) {
+        Set<String> selected = fields.select(requested, Sort.unsorted());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(fields.entity);
+        query.multiselect(selections(fields, selected, root));
+        where(query, root, cb, specification, null);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(rows(typed.getResultList(), selected), pageable,
+                () -> count(fields.entity, specification));
+    }
+
+    public <T> List<Map<String, Object>> findAllById(Fields<T> fields, Set<String> requested, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> selected = fields.select(requested, Sort.unsorted());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(fields.entity);
+        query.multiselect(selections(fields, selected, root)).where(root.get("id").in(ids));
+        return rows(entityManager.createQuery(query).getResultList(), selected);
+    }
+
+    public <T> Window<Map<String, Object>> scroll(Fields<T> fields, Set<String> requested,
+            Specification<T> specification, Sort sort, KeysetScrollPosition position, int limit) {
+        Set<String> selected = fields.select(requested, sort);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(fields.entity);
+        query.multiselect(selections(fields, selected, root));
+        where(query, root, cb, specification, keyset(fields, root, cb, sort, position));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Map<String, Object>> rows = rows(entityManager.createQuery(query).setMaxResults(limit + 1)
+                .getResultList(), selected);
+        boolean hasNext = rows.size() > limit;
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(content, index -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            sort.forEach(order -> keys.put(order.getProperty(), content.get(index).get(order.getProperty())));
+            return ScrollPosition.forward(keys);
+        }, hasNext);
+    }
+
+    private <T> List<Selection<?>> selections(Fields<T> fields, Set<String> selected, Root<T> root) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : selected) {
+            selections.add(path(root, fields.paths.get(field)).alias(field));
+        }
+        return selections;
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    private <T> void where(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder cb,
+            Specification<T> specification, Predicate extra) {
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (extra != null) {
+            predicates.add(extra);
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> Predicate keyset(Fields<T> fields, Root<T> root, CriteriaBuilder cb, Sort sort,
+            KeysetScrollPosition position) {
+        if (position.isInitial()) {
+            return null;
+        }
+
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<Comparable> path = (Path<Comparable>) path(root, fields.paths.get(order.getProperty()));
+            Comparable value = (Comparable) position.getKeys().get(order.getProperty());
+            Predicate after = order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+
+            List<Predicate> alternative = new ArrayList<>(equalities);
+            alternative.add(after);
+            alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            equalities.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    private <T> long count(Class<T> entity, Specification<T> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entity);
+        query.select(cb.count(root));
+        where(query, root, cb, specification, null);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Map<String, Object>> rows(List<Tuple> tuples, Set<String> selected) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected) {
+                row.put(field, tuple.get(field));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fiap.acessly.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@Component
+public class StreamingExporter {
+
+    static final int FLUSH_EVERY = 1_000;
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(BulkImporter.TEXT_CSV_VALUE);
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    public StreamingExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> long write(Stream<T> rows, Class<T> rowType, MediaType format, OutputStream out) throws IOException {
+        boolean csv = TEXT_CSV.isCompatibleWith(format);
+        ObjectWriter writer = csv
+                ? csvMapper.writerFor(rowType).with(csvMapper.schemaFor(rowType).withHeader())
+                : objectMapper.writerFor(rowType).withRootValueSeparator("\n");
+
+        long count = 0;
+        try (SequenceWriter sequence = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValues(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sequence.write(iterator.next());
+                if (++count % FLUSH_EVERY == 0)
+                    sequence.flush();
+            }
+        }
+        if (!csv && count > 0)
+            out.write('\n');
+        out.flush();
+        return count;
+    }
+}
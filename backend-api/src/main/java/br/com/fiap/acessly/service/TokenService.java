@@ -8,19 +8,23 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import br.com.fiap.acessly.dto.CurrentUserResponse;
 import br.com.fiap.acessly.model.User;
 
 @Service
 public class TokenService {
     
     private final JwtEncoder jwtEncoder;
+    private final UserService userService;
 
-    public TokenService(JwtEncoder jwtEncoder) {
+    public TokenService(JwtEncoder jwtEncoder, UserService userService) {
         this.jwtEncoder = jwtEncoder;
+        this.userService = userService;
     }
 
     public String generateToken(User user) {
         Instant now = Instant.now();
+        CurrentUserResponse identity = userService.toCurrentUser(user, null, null);
 
         var claims = JwtClaimsSet.builder()
             .issuer("acessly-api")
@@ -30,6 +34,13 @@ public class TokenService {
             .claim("email", user.getEmail())
             .claim("name", user.getName())
             .claim("role", "ROLE_" + user.getUserRole().toString())
+            .claim("userId", identity.userId())
+            .claims(profile -> {
+                if (identity.candidateId() != null)
+                    profile.put("candidateId", identity.candidateId());
+                if (identity.companyId() != null)
+                    profile.put("companyId", identity.companyId());
+            })
             .build();
 
         return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
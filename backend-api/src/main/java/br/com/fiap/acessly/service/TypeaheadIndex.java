@@ -0,0 +1,302 @@
+package br.com.fiap.acessly.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.acessly.dto.SuggestionResponse;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.repository.CompanyIndexView;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.VacancyIndexView;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@Component
+public class TypeaheadIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private final List<Entry> entries = new ArrayList<>(1);
+        private int best;
+
+        private Node child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label)
+                    return children[i];
+            }
+            return null;
+        }
+
+        private Node addChild(char label) {
+            Node child = new Node();
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = label;
+            children[children.length - 1] = child;
+            return child;
+        }
+
+        private void removeChild(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    System.arraycopy(labels, i + 1, labels, i, labels.length - i - 1);
+                    System.arraycopy(children, i + 1, children, i, children.length - i - 1);
+                    labels = Arrays.copyOf(labels, labels.length - 1);
+                    children = Arrays.copyOf(children, children.length - 1);
+                    return;
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return entries.isEmpty() && labels.length == 0;
+        }
+    }
+
+    private static final class Entry {
+
+        private final SuggestionResponse.Type type;
+        private final String key;
+        private final Set<Long> sources = new HashSet<>();
+        private String text;
+
+        private Entry(SuggestionResponse.Type type, String key) {
+            this.type = type;
+            this.key = key;
+        }
+
+        private int weight() {
+            return sources.size();
+        }
+    }
+
+    private record Candidate(int weight, Node node, Entry entry) {
+    }
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator.comparingInt(Candidate::weight).reversed()
+            .thenComparing(candidate -> candidate.entry() == null)
+            .thenComparing(candidate -> candidate.entry() != null ? candidate.entry().key : "");
+
+    private final VacancyRepository vacancyRepository;
+    private final CompanyRepository companyRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<SuggestionResponse.Type, Map<String, Entry>> entries = new EnumMap<>(SuggestionResponse.Type.class);
+    private final Map<SuggestionResponse.Type, Map<Long, Entry>> sources = new EnumMap<>(SuggestionResponse.Type.class);
+
+    public TypeaheadIndex(VacancyRepository vacancyRepository, CompanyRepository companyRepository) {
+        this.vacancyRepository = vacancyRepository;
+        this.companyRepository = companyRepository;
+        for (SuggestionResponse.Type type : SuggestionResponse.Type.values()) {
+            entries.put(type, new HashMap<>());
+            sources.put(type, new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        List<VacancyIndexView> vacancies;
+        do {
+            vacancies = vacancyRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            for (VacancyIndexView view : vacancies) {
+                index(view.getId(), view.getTitle());
+                lastId = view.getId();
+            }
+        } while (!vacancies.isEmpty());
+
+        lastId = 0L;
+        List<CompanyIndexView> companies;
+        do {
+            companies = companyRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            for (CompanyIndexView view : companies) {
+                indexCompany(view.getId(), view.getName(), view.getSector());
+                lastId = view.getId();
+            }
+        } while (!companies.isEmpty());
+    }
+
+    public void index(Vacancy vacancy) {
+        index(vacancy.getId(), vacancy.getTitle());
+    }
+
+    public void index(Long vacancyId, String title) {
+        lock.writeLock().lock();
+        try {
+            put(SuggestionResponse.Type.VACANCY_TITLE, vacancyId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long vacancyId) {
+        lock.writeLock().lock();
+        try {
+            detach(SuggestionResponse.Type.VACANCY_TITLE, vacancyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexCompany(Company company) {
+        indexCompany(company.getId(), company.getName(), company.getSector());
+    }
+
+    public void indexCompany(Long companyId, String name, String sector) {
+        lock.writeLock().lock();
+        try {
+            put(SuggestionResponse.Type.COMPANY_NAME, companyId, name);
+            put(SuggestionResponse.Type.SECTOR, companyId, sector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeCompany(Long companyId) {
+        lock.writeLock().lock();
+        try {
+            detach(SuggestionResponse.Type.COMPANY_NAME, companyId);
+            detach(SuggestionResponse.Type.SECTOR, companyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SuggestionResponse> suggest(String text, int limit) {
+        String key = LocationKey.fold(text);
+        if (key == null || limit <= 0)
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null)
+                return List.of();
+
+            List<SuggestionResponse> suggestions = new ArrayList<>(limit);
+            Set<Entry> seen = new HashSet<>();
+            PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+            queue.add(new Candidate(node.best, node, null));
+            while (!queue.isEmpty() && suggestions.size() < limit) {
+                Candidate candidate = queue.poll();
+                Entry entry = candidate.entry();
+                if (entry != null) {
+                    if (seen.add(entry))
+                        suggestions.add(new SuggestionResponse(entry.text, entry.type, entry.weight()));
+                    continue;
+                }
+                for (Entry terminal : candidate.node().entries) {
+                    queue.add(new Candidate(terminal.weight(), null, terminal));
+                }
+                for (Node child : candidate.node().children) {
+                    queue.add(new Candidate(child.best, child, null));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(SuggestionResponse.Type type, Long sourceId, String text) {
+        String key = LocationKey.fold(text);
+        Entry previous = sources.get(type).get(sourceId);
+        if (previous != null && previous.key.equals(key)) {
+            previous.text = text.strip();
+            return;
+        }
+
+        detach(type, sourceId);
+        if (key == null)
+            return;
+
+        Entry entry = entries.get(type).get(key);
+        if (entry == null) {
+            entry = new Entry(type, key);
+            entries.get(type).put(key, entry);
+            for (int start : wordStarts(key)) {
+                path(key, start, true)[key.length() - start].entries.add(entry);
+            }
+        }
+        entry.text = text.strip();
+        entry.sources.add(sourceId);
+        sources.get(type).put(sourceId, entry);
+        settle(entry, false);
+    }
+
+    private void detach(SuggestionResponse.Type type, Long sourceId) {
+        Entry entry = sources.get(type).remove(sourceId);
+        if (entry == null)
+            return;
+
+        entry.sources.remove(sourceId);
+        if (entry.sources.isEmpty())
+            entries.get(type).remove(entry.key);
+        settle(entry, entry.sources.isEmpty());
+    }
+
+    private void settle(Entry entry, boolean unlink) {
+        for (int start : wordStarts(entry.key)) {
+            Node[] path = path(entry.key, start, false);
+            if (unlink)
+                path[path.length - 1].entries.remove(entry);
+
+            for (int depth = path.length - 1; depth >= 0; depth--) {
+                Node node = path[depth];
+                int best = 0;
+                for (Entry terminal : node.entries) {
+                    best = Math.max(best, terminal.weight());
+                }
+                for (Node child : node.children) {
+                    best = Math.max(best, child.best);
+                }
+                node.best = best;
+                if (depth > 0 && node.isEmpty())
+                    path[depth - 1].removeChild(entry.key.charAt(start + depth - 1));
+            }
+        }
+    }
+
+    private Node[] path(String key, int start, boolean create) {
+        Node[] path = new Node[key.length() - start + 1];
+        path[0] = root;
+        for (int i = start; i < key.length(); i++) {
+            Node next = path[i - start].child(key.charAt(i));
+            if (next == null && create)
+                next = path[i - start].addChild(key.charAt(i));
+            path[i - start + 1] = next;
+        }
+        return path;
+    }
+
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        for (int i = 1; i < key.length(); i++) {
+            if (key.charAt(i - 1) == ' ')
+                starts.add(i);
+        }
+        return starts;
+    }
+}
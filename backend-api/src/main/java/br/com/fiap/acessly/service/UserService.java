@@ -1,26 +1,50 @@
 package br.com.fiap.acessly.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import br.com.fiap.acessly.dto.CurrentUserResponse;
+import br.com.fiap.acessly.dto.CursorPage;
 import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.CompanyRepository;
 import br.com.fiap.acessly.repository.UserRepository;
 import lombok.NonNull;
 
 @Service
 public class UserService {
+
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of(
+            "id", Long.class,
+            "name", String.class,
+            "email", String.class);
     
     private final UserRepository userRepository;
+    private final CandidateRepository candidateRepository;
+    private final CompanyRepository companyRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final VacancyMatcher vacancyMatcher;
 
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, CandidateRepository candidateRepository,
+            CompanyRepository companyRepository, BCryptPasswordEncoder passwordEncoder,
+            ScrollCursorCodec scrollCursorCodec, VacancyMatcher vacancyMatcher) {
         this.userRepository = userRepository;
+        this.candidateRepository = candidateRepository;
+        this.companyRepository = companyRepository;
         this.passwordEncoder = passwordEncoder;
+        this.scrollCursorCodec = scrollCursorCodec;
+        this.vacancyMatcher = vacancyMatcher;
     }
 
     public List<User> getAllUsers() {
@@ -34,6 +58,22 @@ public class UserService {
             pageable);
     }
 
+    public CursorPage<User> scrollUsersWithFilter(String name, String email, String cursor, int size,
+            @NonNull Sort sort) {
+        Sort keysetSort = scrollCursorCodec.withTieBreaker(sort);
+        KeysetScrollPosition position = scrollCursorCodec.decode(cursor, keysetSort, SCROLL_KEYS);
+
+        return scrollCursorCodec.toPage(
+            userRepository.findByNameContainingIgnoreCaseAndEmailContainingIgnoreCase(
+                name != null ? name : "",
+                email != null ? email : "",
+                position,
+                keysetSort,
+                Limit.of(scrollCursorCodec.limit(size))),
+            keysetSort,
+            user -> user);
+    }
+
     public Optional<User> getUserById(@NonNull Long id) {
         return userRepository.findById(id);
     }
@@ -42,6 +82,23 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    public Optional<CurrentUserResponse> getCurrentUser(Long userId, String email, Long candidateId,
+            Long companyId) {
+        Optional<User> user = userId != null ? userRepository.findById(userId) : userRepository.findByEmail(email);
+        return user.map(found -> toCurrentUser(found, candidateId, companyId));
+    }
+
+    public CurrentUserResponse toCurrentUser(User user, Long candidateId, Long companyId) {
+        if (candidateId == null && user.getUserRole() == UserRole.CANDIDATE) {
+            candidateId = candidateRepository.findIdsByUserId(user.getId()).stream().findFirst().orElse(null);
+        }
+        if (companyId == null && user.getUserRole() == UserRole.COMPANY) {
+            companyId = companyRepository.findIdsByUserId(user.getId()).stream().findFirst().orElse(null);
+        }
+        return new CurrentUserResponse(user.getId(), candidateId, companyId, user.getName(), user.getEmail(),
+                user.getUserRole());
+    }
+
     public User createUser(User user) {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
@@ -73,13 +130,16 @@ public class UserService {
                 user.setState(userDetails.getState());
                 user.setPhone(userDetails.getPhone());
 
-                return userRepository.save(user);
+                User saved = userRepository.save(user);
+                vacancyMatcher.evictUser(saved.getId());
+                return saved;
             });
     }
 
     public boolean deleteUser(@NonNull Long id) {
         if (userRepository.existsById(id)) {
             userRepository.deleteById(id);
+            vacancyMatcher.evictUser(id);
             return true;
         }
         
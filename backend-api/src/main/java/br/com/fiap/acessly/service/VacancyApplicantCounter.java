@@ -0,0 +1,99 @@
+package br.com.fiap.acessly.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.fiap.acessly.dto.VacancyApplicants;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.repository.ApplicantCountView;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@Component
+public class VacancyApplicantCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(VacancyApplicantCounter.class);
+
+    private final VacancyRepository vacancyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public VacancyApplicantCounter(VacancyRepository vacancyRepository, TransactionTemplate transactionTemplate) {
+        this.vacancyRepository = vacancyRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long vacancyId, CandidacyStatus status, long delta) {
+        apply(vacancyId, Map.of(status, delta));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long vacancyId, CandidacyStatus from, CandidacyStatus to, long applicants) {
+        if (from != to) {
+            apply(vacancyId, Map.of(from, -applicants, to, applicants));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Long vacancyId, Map<CandidacyStatus, Long> deltas) {
+        new EnumMap<>(deltas).forEach((status, delta) -> {
+            if (delta != 0) {
+                vacancyRepository.addApplicants(vacancyId, status.name(), delta);
+            }
+        });
+    }
+
+    public Map<CandidacyStatus, Long> countsFor(Long vacancyId) {
+        return toCounts(vacancyRepository.findApplicantCounts(vacancyId));
+    }
+
+    public List<VacancyApplicants> countsForCompany(Long companyId) {
+        Map<Long, List<ApplicantCountView>> byVacancy = new LinkedHashMap<>();
+        for (ApplicantCountView count : vacancyRepository.findApplicantCountsByCompanyId(companyId)) {
+            byVacancy.computeIfAbsent(count.getVacancyId(), id -> new ArrayList<>()).add(count);
+        }
+
+        List<VacancyApplicants> vacancies = new ArrayList<>(byVacancy.size());
+        byVacancy.forEach((vacancyId, counts) -> vacancies.add(
+                new VacancyApplicants(vacancyId, counts.get(0).getTitle(), toCounts(counts))));
+        return vacancies;
+    }
+
+    @Scheduled(cron = "${acessly.applicant-counts.reconcile-cron:0 */15 * * * *}")
+    public int reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (CandidacyStatus candidacyStatus : CandidacyStatus.values()) {
+                vacancyRepository.insertMissingApplicantCounts(candidacyStatus.name());
+            }
+        });
+
+        List<ApplicantCountView> drifted = vacancyRepository.findDriftedApplicantCounts();
+        for (ApplicantCountView count : drifted) {
+            transactionTemplate.executeWithoutResult(status -> vacancyRepository
+                    .recountApplicants(count.getVacancyId(), count.getStatus().name()));
+        }
+        if (!drifted.isEmpty()) {
+            log.warn("Reconciled {} applicant counters", drifted.size());
+        }
+        return drifted.size();
+    }
+
+    private static Map<CandidacyStatus, Long> toCounts(List<ApplicantCountView> rows) {
+        Map<CandidacyStatus, Long> counts = new EnumMap<>(CandidacyStatus.class);
+        for (CandidacyStatus status : CandidacyStatus.values()) {
+            counts.put(status, 0L);
+        }
+        rows.forEach(row -> counts.put(row.getStatus(), row.getApplicants()));
+        return counts;
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.fiap.acessly.service;
+
+import br.com.fiap.acessly.model.Vacancy;
+
+/**
+ * In-process notice that a vacancy was saved or deleted, delivered after commit to refresh the search indexes of this
+ * instance. It carries the managed entity, so it stays inside the service layer and is never serialized.
+ */
+public record VacancyChangedEvent(
+        Long vacancyId,
+        Vacancy vacancy) {
+
+    public static VacancyChangedEvent saved(Vacancy vacancy) {
+        return new VacancyChangedEvent(vacancy.getId(), vacancy);
+    }
+
+    public static VacancyChangedEvent deleted(Long vacancyId) {
+        return new VacancyChangedEvent(vacancyId, null);
+    }
+}
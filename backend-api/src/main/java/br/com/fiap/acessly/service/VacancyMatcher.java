@@ -0,0 +1,331 @@
+package br.com.fiap.acessly.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.VacancyIndexView;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@Component
+public class VacancyMatcher {
+
+    private static final double ACCESSIBILITY_WEIGHT = 0.5;
+    private static final double SKILLS_WEIGHT = 0.3;
+    private static final double LOCATION_WEIGHT = 0.2;
+    private static final int SIGNATURE_WORDS = 4;
+    private static final int NO_LOCATION = 0;
+
+    enum Feature {
+        RAMP("rampa", "rampas", "ramp", "cadeirante", "cadeirantes", "rodas", "wheelchair"),
+        ELEVATOR("elevador", "elevadores", "elevator"),
+        ADAPTED_WORKSTATION("mesa", "mesas", "estacao", "ergonomica", "ergonomico", "mobiliario", "adaptado",
+                "adaptada", "workstation"),
+        ADAPTED_RESTROOM("banheiro", "banheiros", "sanitario", "sanitarios", "restroom"),
+        PARKING("estacionamento", "parking"),
+        SCREEN_READER("leitor", "leitores", "nvda", "jaws", "voiceover", "talkback", "reader"),
+        BRAILLE("braille"),
+        MAGNIFIER("ampliador", "ampliacao", "lupa", "contraste", "zoom", "magnifier"),
+        AUDIO_DESCRIPTION("audiodescricao", "audiodescription"),
+        SIGN_LANGUAGE("libras", "interprete", "interpretes", "sinais"),
+        CAPTIONS("legenda", "legendas", "legendagem", "caption", "captions", "transcricao"),
+        VISUAL_ALERTS("luminoso", "luminosos", "visuais", "alertas"),
+        FLEXIBLE_HOURS("flexivel", "flexiveis", "flexibilidade", "pausas", "jornada"),
+        REMOTE_WORK("remoto", "remota", "teletrabalho", "home"),
+        MENTORING("mentoria", "mentor", "acompanhamento", "tutor", "tutoria", "coach", "apoio"),
+        CLEAR_INSTRUCTIONS("instrucoes", "rotina", "rotinas", "simplificada", "simplificadas", "checklist"),
+        QUIET_SPACE("silencioso", "silenciosa", "tranquilo", "tranquila", "ruido");
+
+        private final String[] keywords;
+
+        Feature(String... keywords) {
+            this.keywords = keywords;
+        }
+
+        long bit() {
+            return 1L << ordinal();
+        }
+    }
+
+    private static final Map<String, Long> KEYWORDS = new HashMap<>();
+    private static final Map<DisabilityType, Long> NEEDS = Map.of(
+            DisabilityType.PHYSICAL, bits(Feature.RAMP, Feature.ELEVATOR, Feature.ADAPTED_WORKSTATION,
+                    Feature.ADAPTED_RESTROOM, Feature.PARKING),
+            DisabilityType.VISUAL, bits(Feature.SCREEN_READER, Feature.BRAILLE, Feature.MAGNIFIER,
+                    Feature.AUDIO_DESCRIPTION),
+            DisabilityType.AUDITORY, bits(Feature.SIGN_LANGUAGE, Feature.CAPTIONS, Feature.VISUAL_ALERTS),
+            DisabilityType.COGNITIVE, bits(Feature.FLEXIBLE_HOURS, Feature.MENTORING, Feature.CLEAR_INSTRUCTIONS,
+                    Feature.QUIET_SPACE));
+    private static final long COVERED_BY_REMOTE = bits(Feature.RAMP, Feature.ELEVATOR, Feature.ADAPTED_RESTROOM,
+            Feature.PARKING, Feature.REMOTE_WORK);
+
+    static {
+        for (Feature feature : Feature.values()) {
+            for (String keyword : feature.keywords) {
+                KEYWORDS.merge(keyword, feature.bit(), (a, b) -> a | b);
+            }
+        }
+    }
+
+    public record Match(Long vacancyId, double score, double accessibility, double skills, double location) {
+    }
+
+    record CandidateProfile(Long userId, long required, long needs, long[] skills, int city, int state) {
+    }
+
+    private final VacancyRepository vacancyRepository;
+    private final CandidateRepository candidateRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> locations = new ConcurrentHashMap<>();
+    private final AtomicInteger locationKeys = new AtomicInteger(NO_LOCATION);
+    private final Map<Long, CandidateProfile> candidates = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> slots = new HashMap<>();
+
+    private long[] ids = new long[1024];
+    private long[] offered = new long[1024];
+    private long[] signatures = new long[1024 * SIGNATURE_WORDS];
+    private int[] cities = new int[1024];
+    private int[] states = new int[1024];
+    private byte[] types = new byte[1024];
+    private int size;
+
+    public VacancyMatcher(VacancyRepository vacancyRepository, CandidateRepository candidateRepository) {
+        this.vacancyRepository = vacancyRepository;
+        this.candidateRepository = candidateRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        List<VacancyIndexView> batch;
+        do {
+            batch = vacancyRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            for (VacancyIndexView view : batch) {
+                index(view.getId(), view.getTitle(), view.getDescription(), view.getAccessibilityOffered(),
+                        view.getVacancyType(), view.getCity(), view.getState());
+                lastId = view.getId();
+            }
+        } while (!batch.isEmpty());
+    }
+
+    public void index(Vacancy vacancy) {
+        index(vacancy.getId(), vacancy.getTitle(), vacancy.getDescription(), vacancy.getAccessibilityOffered(),
+                vacancy.getVacancyType(), vacancy.getCity(), vacancy.getState());
+    }
+
+    public void index(Long id, String title, String description, String accessibilityOffered,
+            VacancyType vacancyType, String city, String state) {
+        long features = features(accessibilityOffered) | features(description) | features(title);
+        if (vacancyType == VacancyType.REMOTE)
+            features |= COVERED_BY_REMOTE;
+
+        long[] signature = new long[SIGNATURE_WORDS];
+        sign(signature, title);
+        sign(signature, description);
+        int cityKey = location(city);
+        int stateKey = location(LocationKey.state(state));
+
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                ensureCapacity(size + 1);
+                slot = size++;
+                slots.put(id, slot);
+            }
+            ids[slot] = id;
+            offered[slot] = features;
+            System.arraycopy(signature, 0, signatures, slot * SIGNATURE_WORDS, SIGNATURE_WORDS);
+            cities[slot] = cityKey;
+            states[slot] = stateKey;
+            types[slot] = (byte) (vacancyType != null ? vacancyType.ordinal() : -1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot == null)
+                return;
+
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                offered[slot] = offered[last];
+                System.arraycopy(signatures, last * SIGNATURE_WORDS, signatures, slot * SIGNATURE_WORDS,
+                        SIGNATURE_WORDS);
+                cities[slot] = cities[last];
+                states[slot] = states[last];
+                types[slot] = types[last];
+                slots.put(ids[slot], slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexCandidate(Candidate candidate) {
+        candidates.put(candidate.getId(), profile(candidate));
+    }
+
+    public void removeCandidate(Long candidateId) {
+        candidates.remove(candidateId);
+    }
+
+    public void evictUser(Long userId) {
+        candidates.values().removeIf(profile -> profile.userId().equals(userId));
+    }
+
+    public Optional<List<Match>> recommend(Long candidateId, int limit) {
+        CandidateProfile profile = candidates.get(candidateId);
+        if (profile == null) {
+            Optional<Candidate> candidate = candidateRepository.findById(candidateId);
+            if (candidate.isEmpty())
+                return Optional.empty();
+            profile = profile(candidate.get());
+            candidates.put(candidateId, profile);
+        }
+        return Optional.of(recommend(profile, limit));
+    }
+
+    private List<Match> recommend(CandidateProfile profile, int limit) {
+        int skillBits = 0;
+        for (long word : profile.skills())
+            skillBits += Long.bitCount(word);
+        int requiredBits = Long.bitCount(profile.required());
+        int needBits = Long.bitCount(profile.needs());
+
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::score));
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < size; slot++) {
+                long features = offered[slot];
+                double accessibility = needBits == 0 && requiredBits == 0 ? 0.5
+                        : requiredBits == 0 ? (double) Long.bitCount(profile.needs() & features) / needBits
+                        : needBits == 0 ? (double) Long.bitCount(profile.required() & features) / requiredBits
+                        : 0.7 * Long.bitCount(profile.required() & features) / requiredBits
+                                + 0.3 * Long.bitCount(profile.needs() & features) / needBits;
+
+                double skills = 0;
+                if (skillBits > 0) {
+                    int overlap = 0;
+                    int base = slot * SIGNATURE_WORDS;
+                    for (int word = 0; word < SIGNATURE_WORDS; word++)
+                        overlap += Long.bitCount(profile.skills()[word] & signatures[base + word]);
+                    skills = (double) overlap / skillBits;
+                }
+
+                double location = location(profile, slot);
+                double score = ACCESSIBILITY_WEIGHT * accessibility + SKILLS_WEIGHT * skills
+                        + LOCATION_WEIGHT * location;
+
+                if (top.size() < limit) {
+                    top.add(new Match(ids[slot], score, accessibility, skills, location));
+                } else if (score > top.peek().score()) {
+                    top.poll();
+                    top.add(new Match(ids[slot], score, accessibility, skills, location));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(Comparator.comparingDouble(Match::score).reversed().thenComparing(Match::vacancyId));
+        return ranked;
+    }
+
+    private double location(CandidateProfile profile, int slot) {
+        if (types[slot] == VacancyType.REMOTE.ordinal())
+            return 1.0;
+        if (profile.city() == NO_LOCATION && profile.state() == NO_LOCATION)
+            return 0.5;
+        if (profile.city() != NO_LOCATION && profile.city() == cities[slot])
+            return 1.0;
+
+        boolean hybrid = types[slot] == VacancyType.HYBRID.ordinal();
+        if (profile.state() != NO_LOCATION && profile.state() == states[slot])
+            return hybrid ? 0.6 : 0.5;
+        return hybrid ? 0.2 : 0.0;
+    }
+
+    private CandidateProfile profile(Candidate candidate) {
+        User user = candidate.getUser();
+        long[] skills = new long[SIGNATURE_WORDS];
+        sign(skills, candidate.getSkills());
+        sign(skills, candidate.getExperience());
+
+        return new CandidateProfile(
+                user.getId(),
+                features(candidate.getRequiredAcessibility()),
+                candidate.getDisabilityType() != null ? NEEDS.get(candidate.getDisabilityType()) : 0L,
+                skills,
+                location(user.getCity()),
+                location(LocationKey.state(user.getState())));
+    }
+
+    private int location(String name) {
+        List<String> tokens = VacancySearchIndex.tokenize(name);
+        if (tokens.isEmpty())
+            return NO_LOCATION;
+        return locations.computeIfAbsent(String.join(" ", tokens), key -> locationKeys.incrementAndGet());
+    }
+
+    private static long features(String text) {
+        long features = 0;
+        for (String token : VacancySearchIndex.tokenize(text)) {
+            features |= KEYWORDS.getOrDefault(token, 0L);
+        }
+        return features;
+    }
+
+    private static void sign(long[] signature, String text) {
+        for (String token : VacancySearchIndex.tokenize(text)) {
+            int hash = token.hashCode() * 0x9E3779B9;
+            int bit = (hash >>> 24) % (SIGNATURE_WORDS * Long.SIZE);
+            signature[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+        }
+    }
+
+    private static long bits(Feature... features) {
+        long bits = 0;
+        for (Feature feature : features)
+            bits |= feature.bit();
+        return bits;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length)
+            return;
+
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        offered = Arrays.copyOf(offered, grown);
+        signatures = Arrays.copyOf(signatures, grown * SIGNATURE_WORDS);
+        cities = Arrays.copyOf(cities, grown);
+        states = Arrays.copyOf(states, grown);
+        types = Arrays.copyOf(types, grown);
+    }
+}
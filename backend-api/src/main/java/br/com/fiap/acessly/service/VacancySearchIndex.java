@@ -0,0 +1,237 @@
+package br.com.fiap.acessly.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.VacancyIndexView;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@Component
+public class VacancySearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_PREFIX_LENGTH = 3;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "de", "da", "do", "das", "dos", "em", "no", "na", "nos", "nas", "para", "por", "com", "um", "uma",
+            "os", "as", "ao", "the", "and", "of", "for", "with", "in", "on", "to", "an");
+
+    private enum Field {
+        TITLE(3.0),
+        DESCRIPTION(1.0),
+        ACCESSIBILITY(2.0);
+
+        private final double boost;
+
+        Field(double boost) {
+            this.boost = boost;
+        }
+    }
+
+    private record IndexedVacancy(VacancyType vacancyType, String cityKey, String stateKey, int[] fieldLengths,
+            Set<String> terms) {
+    }
+
+    private final VacancyRepository vacancyRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    private final Map<Long, IndexedVacancy> documents = new HashMap<>();
+    private final long[] totalFieldLengths = new long[Field.values().length];
+
+    public VacancySearchIndex(VacancyRepository vacancyRepository) {
+        this.vacancyRepository = vacancyRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long lastId = 0L;
+        List<VacancyIndexView> batch;
+        do {
+            batch = vacancyRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastId);
+            for (VacancyIndexView view : batch) {
+                index(view.getId(), view.getTitle(), view.getDescription(), view.getAccessibilityOffered(),
+                        view.getVacancyType(), view.getCity(), view.getState());
+                lastId = view.getId();
+            }
+        } while (!batch.isEmpty());
+    }
+
+    public void index(Vacancy vacancy) {
+        index(vacancy.getId(), vacancy.getTitle(), vacancy.getDescription(), vacancy.getAccessibilityOffered(),
+                vacancy.getVacancyType(), vacancy.getCity(), vacancy.getState());
+    }
+
+    public void index(Long id, String title, String description, String accessibilityOffered,
+            VacancyType vacancyType, String city, String state) {
+        List<List<String>> fieldTokens = List.of(tokenize(title), tokenize(description),
+                tokenize(accessibilityOffered));
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] fieldLengths = new int[Field.values().length];
+        for (int field = 0; field < fieldTokens.size(); field++) {
+            for (String token : fieldTokens.get(field)) {
+                frequencies.computeIfAbsent(token, t -> new int[Field.values().length])[field]++;
+            }
+            fieldLengths[field] = fieldTokens.get(field).size();
+        }
+
+        IndexedVacancy document = new IndexedVacancy(vacancyType, LocationKey.fold(city), LocationKey.state(state),
+                fieldLengths, frequencies.keySet());
+
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, tf));
+            for (int field = 0; field < fieldLengths.length; field++) {
+                totalFieldLengths[field] += fieldLengths[field];
+            }
+            documents.put(id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String text, String accessibilityOffered, VacancyType vacancyType, String city,
+            String state) {
+        List<String> textTerms = tokenize(text);
+        List<String> accessibilityTerms = tokenize(accessibilityOffered);
+        String cityKey = LocationKey.fold(city);
+        String stateKey = LocationKey.state(state);
+
+        if (textTerms.isEmpty() && accessibilityTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (int i = 0; i < textTerms.size(); i++) {
+                scores = intersect(scores, score(textTerms.get(i), i == textTerms.size() - 1, Field.values()));
+            }
+            for (int i = 0; i < accessibilityTerms.size(); i++) {
+                scores = intersect(scores, score(accessibilityTerms.get(i), i == accessibilityTerms.size() - 1,
+                        Field.ACCESSIBILITY));
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>();
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                IndexedVacancy document = documents.get(entry.getKey());
+                if (vacancyType != null && document.vacancyType() != vacancyType)
+                    continue;
+                if (cityKey != null && (document.cityKey() == null || !document.cityKey().startsWith(cityKey)))
+                    continue;
+                if (stateKey != null && !stateKey.equals(document.stateKey()))
+                    continue;
+                ranked.add(entry);
+            }
+
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                    .thenComparing(Map.Entry.comparingByKey()));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(String term, boolean allowPrefix, Field... fields) {
+        Map<String, Map<Long, int[]>> matches = allowPrefix && term.length() >= MIN_PREFIX_LENGTH
+                ? postings.subMap(term, true, term + Character.MAX_VALUE, true)
+                : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+
+        int documentCount = documents.size();
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, int[]> posting : matches.values()) {
+            double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            for (Map.Entry<Long, int[]> entry : posting.entrySet()) {
+                int[] fieldLengths = documents.get(entry.getKey()).fieldLengths();
+                double score = 0;
+                for (Field field : fields) {
+                    int tf = entry.getValue()[field.ordinal()];
+                    if (tf == 0)
+                        continue;
+                    double averageLength = (double) totalFieldLengths[field.ordinal()] / documentCount;
+                    double norm = 1 - B + B * fieldLengths[field.ordinal()] / averageLength;
+                    score += field.boost * idf * tf * (K1 + 1) / (tf + K1 * norm);
+                }
+                if (score > 0)
+                    scores.merge(entry.getKey(), score, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> intersect(Map<Long, Double> accumulated, Map<Long, Double> termScores) {
+        if (accumulated == null)
+            return termScores;
+
+        Map<Long, Double> smaller = accumulated.size() <= termScores.size() ? accumulated : termScores;
+        Map<Long, Double> larger = smaller == accumulated ? termScores : accumulated;
+        Map<Long, Double> result = new HashMap<>();
+        smaller.forEach((id, score) -> {
+            Double other = larger.get(id);
+            if (other != null)
+                result.put(id, score + other);
+        });
+        return result;
+    }
+
+    private void removeUnlocked(Long id) {
+        IndexedVacancy previous = documents.remove(id);
+        if (previous == null)
+            return;
+
+        for (String term : previous.terms()) {
+            Map<Long, int[]> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty())
+                    postings.remove(term);
+            }
+        }
+        for (int field = 0; field < totalFieldLengths.length; field++) {
+            totalFieldLengths[field] -= previous.fieldLengths()[field];
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank())
+            return List.of();
+
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() >= 2 && !STOP_WORDS.contains(token))
+                tokens.add(token);
+        }
+        return tokens;
+    }
+}
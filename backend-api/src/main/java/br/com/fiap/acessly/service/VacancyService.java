@@ -1,17 +1,43 @@
 package br.com.fiap.acessly.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import br.com.fiap.acessly.dto.CursorPage;
+import br.com.fiap.acessly.dto.HiringFunnelReport;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.dto.SuggestionResponse;
+import br.com.fiap.acessly.dto.VacancyApplicants;
 import br.com.fiap.acessly.dto.VacancyRequest;
 import br.com.fiap.acessly.dto.VacancyResponse;
 import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.model.OutboxEventType;
 import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
 import br.com.fiap.acessly.repository.CompanyRepository;
 import br.com.fiap.acessly.repository.VacancyRepository;
 import jakarta.persistence.criteria.Predicate;
@@ -20,12 +46,53 @@ import lombok.NonNull;
 @Service
 public class VacancyService {
 
+    private static final Map<String, Class<?>> SCROLL_KEYS = Map.of("id", Long.class, "title", String.class);
+
+    static final int MAX_SORTED_MATCHES = 1_000;
+
+    private static final SparseFieldQuery.Fields<Vacancy> SPARSE_FIELDS = SparseFieldQuery.Fields.of(Vacancy.class)
+            .field("companyId", "company.id")
+            .field("companyName", "company.name")
+            .field("title")
+            .field("description")
+            .field("vacancyType")
+            .field("city")
+            .field("state")
+            .field("salary")
+            .field("accessibilityOffered");
+
     private final VacancyRepository vacancyRepository;
     private final CompanyRepository companyRepository;
+    private final CompanyService companyService;
+    private final VacancySearchIndex vacancySearchIndex;
+    private final ScrollCursorCodec scrollCursorCodec;
+    private final BulkImporter bulkImporter;
+    private final VacancyMatcher vacancyMatcher;
+    private final DomainEventOutbox outbox;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final VacancyApplicantCounter applicantCounter;
+    private final HiringFunnelRollup hiringFunnel;
+    private final TypeaheadIndex typeaheadIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public VacancyService(VacancyRepository vacancyRepository, CompanyRepository companyRepository) {
+    public VacancyService(VacancyRepository vacancyRepository, CompanyRepository companyRepository,
+            CompanyService companyService, VacancySearchIndex vacancySearchIndex, ScrollCursorCodec scrollCursorCodec, BulkImporter bulkImporter,
+            VacancyMatcher vacancyMatcher, DomainEventOutbox outbox, SparseFieldQuery sparseFieldQuery,
+            VacancyApplicantCounter applicantCounter, HiringFunnelRollup hiringFunnel, TypeaheadIndex typeaheadIndex,
+            ApplicationEventPublisher eventPublisher) {
         this.vacancyRepository = vacancyRepository;
         this.companyRepository = companyRepository;
+        this.companyService = companyService;
+        this.vacancySearchIndex = vacancySearchIndex;
+        this.scrollCursorCodec = scrollCursorCodec;
+        this.bulkImporter = bulkImporter;
+        this.vacancyMatcher = vacancyMatcher;
+        this.outbox = outbox;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.applicantCounter = applicantCounter;
+        this.hiringFunnel = hiringFunnel;
+        this.typeaheadIndex = typeaheadIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @SuppressWarnings("null")
@@ -36,31 +103,52 @@ public class VacancyService {
             throw new IllegalArgumentException("Company ID cannot be null");
         }
 
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new RuntimeException("Company not found"));
+        Vacancy vacancy = vacancyRepository.save(toEntity(request, companyReference(companyId)));
+        eventPublisher.publishEvent(VacancyChangedEvent.saved(vacancy));
+        return toResponse(vacancy);
+    }
 
-        Vacancy vacancy = Vacancy.builder()
-                .company(company)
-                .title(request.title())
-                .description(request.description())
-                .vacancyType(request.vacancyType())
-                .city(request.city())
-                .state(request.state())
-                .salary(request.salary())
-                .accessibilityOffered(request.accessibilityOffered())
-                .build();
+    public ImportReport importVacancies(InputStream body, MediaType contentType) throws IOException {
+        return bulkImporter.importRows(body, contentType, new BulkImporter.Plan<>(
+                VacancyRequest.class,
+                VacancyRequest::companyId,
+                companyRepository::findExistingIds,
+                "Company not found",
+                request -> toEntity(request, companyRepository.getReferenceById(request.companyId())),
+                vacancyRepository,
+                saved -> saved.forEach(vacancy -> onVacancyChanged(VacancyChangedEvent.saved(vacancy)))));
+    }
 
-        return toResponse(vacancyRepository.save(vacancy));
+    public Optional<String> getVacancyVersionTag(@NonNull Long id) {
+        return vacancyRepository.findVersionTagById(id);
     }
 
     public Optional<VacancyResponse> getVacancyById(@NonNull Long id) {
         return vacancyRepository.findById(id).map(this::toResponse);
     }
 
+    public boolean isManagedBy(@NonNull Long companyId, String email) {
+        return email != null && companyRepository.existsByIdAndUserEmail(companyId, email);
+    }
+
+    public List<VacancyApplicants> getApplicantsByCompany(@NonNull Long companyId) {
+        return applicantCounter.countsForCompany(companyId);
+    }
+
+    public HiringFunnelReport getHiringFunnel(@NonNull Long companyId, Long vacancyId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return hiringFunnel.report(companyId, vacancyId, from != null ? from : end.minusDays(29), end);
+    }
+
+    public List<SuggestionResponse> suggest(String text, int limit) {
+        return typeaheadIndex.suggest(text, Math.max(1, Math.min(limit, TypeaheadIndex.MAX_SUGGESTIONS)));
+    }
+
     public Page<VacancyResponse> getVacancies(@NonNull Pageable pageable) {
         return vacancyRepository.findAll(pageable).map(this::toResponse);
     }
 
+    @Transactional
     public Optional<VacancyResponse> updateVacancy(@NonNull Long id, VacancyRequest request) {
         return vacancyRepository.findById(id).map(vacancy -> {
             Long companyId = request.companyId();
@@ -69,10 +157,7 @@ public class VacancyService {
                 throw new IllegalArgumentException("Company ID cannot be null");
             }
 
-            Company company = companyRepository.findById(companyId)
-                    .orElseThrow(() -> new RuntimeException("Company not found"));
-
-            vacancy.setCompany(company);
+            vacancy.setCompany(companyReference(companyId));
             vacancy.setTitle(request.title());
             vacancy.setDescription(request.description());
             vacancy.setVacancyType(request.vacancyType());
@@ -81,52 +166,236 @@ public class VacancyService {
             vacancy.setSalary(request.salary());
             vacancy.setAccessibilityOffered(request.accessibilityOffered());
 
-            return toResponse(vacancyRepository.save(vacancy));
+            Vacancy saved = vacancyRepository.save(vacancy);
+            VacancyResponse response = toResponse(saved);
+            outbox.append(OutboxEventType.VACANCY_UPDATED, saved.getId(), response);
+            eventPublisher.publishEvent(VacancyChangedEvent.saved(saved));
+            return response;
         });
     }
 
+    @Transactional
     public boolean deleteVacancy(@NonNull Long id) {
         if (vacancyRepository.existsById(id)) {
             vacancyRepository.deleteById(id);
+            outbox.append(OutboxEventType.VACANCY_DELETED, id, null);
+            eventPublisher.publishEvent(VacancyChangedEvent.deleted(id));
             return true;
         }
         return false;
     }
 
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVacancyChanged(VacancyChangedEvent event) {
+        if (event.vacancy() == null) {
+            vacancySearchIndex.remove(event.vacancyId());
+            vacancyMatcher.remove(event.vacancyId());
+            typeaheadIndex.remove(event.vacancyId());
+            return;
+        }
+        vacancySearchIndex.index(event.vacancy());
+        vacancyMatcher.index(event.vacancy());
+        typeaheadIndex.index(event.vacancy());
+    }
+
     public Page<VacancyResponse> getVacanciesWithFilters(
             String title,
             String vacancyType,
             String city,
+            String state,
             String accessibilityOffered,
             @NonNull Pageable pageable) {
 
-        return vacancyRepository.findAll(
-                (root, query, cb) -> {
-                    List<Predicate> predicates = new ArrayList<>();
+        if (isSearch(title, accessibilityOffered)) {
+            List<Long> ranked = search(title, vacancyType, city, state, accessibilityOffered);
+            if (pageable.getSort().isSorted()) {
+                return vacancyRepository.findAll(withIds(bestMatches(ranked)), pageable).map(this::toResponse);
+            }
+            return toPage(ranked, pageable, this::hydrate);
+        }
+
+        return vacancyRepository.findAll(filters(title, vacancyType, city, state, accessibilityOffered), pageable)
+                .map(this::toResponse);
+    }
+
+    public Page<Map<String, Object>> getVacanciesWithFields(
+            String title,
+            String vacancyType,
+            String city,
+            String state,
+            String accessibilityOffered,
+            @NonNull Set<String> fields,
+            @NonNull Pageable pageable) {
+
+        if (isSearch(title, accessibilityOffered)) {
+            List<Long> ranked = search(title, vacancyType, city, state, accessibilityOffered);
+            if (pageable.getSort().isSorted()) {
+                return sparseFieldQuery.findPage(SPARSE_FIELDS, fields, withIds(bestMatches(ranked)), pageable);
+            }
+            return toPage(ranked, pageable, ids -> {
+                Map<Object, Map<String, Object>> rows = sparseFieldQuery.findAllById(SPARSE_FIELDS, fields, ids)
+                        .stream().collect(Collectors.toMap(row -> row.get("id"), Function.identity()));
+                return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+            });
+        }
+
+        return sparseFieldQuery.findPage(SPARSE_FIELDS, fields,
+                filters(title, vacancyType, city, state, accessibilityOffered), pageable);
+    }
+
+    public CursorPage<VacancyResponse> scrollVacancies(
+            String vacancyType,
+            String city,
+            String state,
+            String cursor,
+            int size,
+            @NonNull Sort sort) {
+
+        Sort keysetSort = scrollCursorCodec.withTieBreaker(sort);
+        KeysetScrollPosition position = scrollCursorCodec.decode(cursor, keysetSort, SCROLL_KEYS);
+
+        Window<Vacancy> window = vacancyRepository.findBy(filters(vacancyType, city, state),
+                query -> query.sortBy(keysetSort).limit(scrollCursorCodec.limit(size)).scroll(position));
+        return scrollCursorCodec.toPage(window, keysetSort, this::toResponse);
+    }
+
+    public CursorPage<Map<String, Object>> scrollVacanciesWithFields(
+            String vacancyType,
+            String city,
+            String state,
+            String cursor,
+            int size,
+            @NonNull Sort sort,
+            @NonNull Set<String> fields) {
+
+        Sort keysetSort = scrollCursorCodec.withTieBreaker(sort);
+        KeysetScrollPosition position = scrollCursorCodec.decode(cursor, keysetSort, SCROLL_KEYS);
+
+        Window<Map<String, Object>> window = sparseFieldQuery.scroll(SPARSE_FIELDS, fields,
+                filters(vacancyType, city, state), keysetSort, position, scrollCursorCodec.limit(size));
+        return scrollCursorCodec.toPage(window, keysetSort, Function.identity());
+    }
+
+    public List<VacancyResponse> getVacanciesByIds(List<Long> ids) {
+        return hydrate(ids);
+    }
+
+    private Specification<Vacancy> filters(String title, String vacancyType, String city, String state,
+            String accessibilityOffered) {
+        Specification<Vacancy> filters = filters(vacancyType, city, state);
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(filters.toPredicate(root, query, cb));
+
+            if (title != null && !title.isBlank())
+                predicates.add(cb.like(cb.lower(root.get("title")), containing(title), '\\'));
+
+            if (accessibilityOffered != null && !accessibilityOffered.isBlank())
+                predicates.add(cb.like(cb.lower(root.get("accessibilityOffered")), containing(accessibilityOffered),
+                        '\\'));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private Specification<Vacancy> filters(String vacancyType, String city, String state) {
+        VacancyType type = parseType(vacancyType);
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (type != null)
+                predicates.add(cb.equal(root.get("vacancyType"), type));
+
+            String cityKey = LocationKey.fold(city);
+            if (cityKey != null)
+                predicates.add(cb.like(root.get("cityKey"), cityKey + "%", '\\'));
+
+            String stateKey = LocationKey.state(state);
+            if (stateKey != null)
+                predicates.add(cb.equal(root.get("stateKey"), stateKey));
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 
-                    if (title != null && !title.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("title")), "%" + title.toLowerCase() + "%"));
+    private static boolean isSearch(String title, String accessibilityOffered) {
+        return !VacancySearchIndex.tokenize(title).isEmpty()
+                || !VacancySearchIndex.tokenize(accessibilityOffered).isEmpty();
+    }
 
-                    if (vacancyType != null && !vacancyType.isBlank())
-                        predicates.add(cb.equal(root.get("vacancyType"), vacancyType));
+    private static String containing(String text) {
+        return "%" + text.strip().toLowerCase(Locale.ROOT).replaceAll("[\\\\%_]", "\\\\$0") + "%";
+    }
 
-                    if (city != null && !city.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("city")), "%" + city.toLowerCase() + "%"));
+    private static List<Long> bestMatches(List<Long> ranked) {
+        return ranked.size() > MAX_SORTED_MATCHES ? ranked.subList(0, MAX_SORTED_MATCHES) : ranked;
+    }
 
-                    if (accessibilityOffered != null && !accessibilityOffered.isBlank())
-                        predicates.add(cb.like(cb.lower(root.get("accessibilityOffered")),
-                                "%" + accessibilityOffered.toLowerCase() + "%"));
+    private List<Long> search(String title, String vacancyType, String city, String state,
+            String accessibilityOffered) {
+        return vacancySearchIndex.search(title, accessibilityOffered, parseType(vacancyType), city, state);
+    }
 
-                    return cb.and(predicates.toArray(new Predicate[0]));
-                },
-                pageable).map(this::toResponse);
+    private static Specification<Vacancy> withIds(List<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    private static VacancyType parseType(String vacancyType) {
+        if (vacancyType == null || vacancyType.isBlank())
+            return null;
+        try {
+            return VacancyType.valueOf(vacancyType);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid vacancy type: " + vacancyType);
+        }
+    }
+
+    private static <R> Page<R> toPage(List<Long> rankedIds, Pageable pageable, Function<List<Long>, List<R>> hydrate) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(hydrate.apply(rankedIds));
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        return new PageImpl<>(hydrate.apply(rankedIds.subList(from, to)), pageable, rankedIds.size());
+    }
+
+    private List<VacancyResponse> hydrate(List<Long> ids) {
+        Map<Long, Vacancy> vacancies = vacancyRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Vacancy::getId, Function.identity()));
+
+        return ids.stream()
+                .map(vacancies::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
+                .toList();
+    }
+
+    private Company companyReference(Long companyId) {
+        if (companyService.getCompanyName(companyId) == null) {
+            throw new RuntimeException("Company not found");
+        }
+        return companyRepository.getReferenceById(companyId);
+    }
+
+    private Vacancy toEntity(VacancyRequest request, Company company) {
+        return Vacancy.builder()
+                .company(company)
+                .title(request.title())
+                .description(request.description())
+                .vacancyType(request.vacancyType())
+                .city(request.city())
+                .state(request.state())
+                .salary(request.salary())
+                .accessibilityOffered(request.accessibilityOffered())
+                .build();
     }
 
     private VacancyResponse toResponse(Vacancy vacancy) {
         return new VacancyResponse(
                 vacancy.getId(),
                 vacancy.getCompany().getId(),
-                vacancy.getCompany().getName(),
+                companyService.getCompanyName(vacancy.getCompany().getId()),
                 vacancy.getTitle(),
                 vacancy.getDescription(),
                 vacancy.getVacancyType(),
@@ -0,0 +1,9 @@
+-- Run once against an existing Oracle schema before deploying the unique application constraint.
+-- Duplicate applications (same candidate and vacancy) keep only the oldest row.
+DELETE FROM candidacy c
+WHERE EXISTS (
+    SELECT 1 FROM candidacy o
+    WHERE o.candidate_id = c.candidate_id AND o.vacancy_id = c.vacancy_id AND o.id < c.id
+);
+
+ALTER TABLE candidacy ADD CONSTRAINT uk_candidacy_candidate_vacancy UNIQUE (candidate_id, vacancy_id);
@@ -0,0 +1,6 @@
+-- Run once against an existing Oracle schema before deploying optimistic versioning.
+-- Existing rows start at version 0; Hibernate increments the column on every update and the
+-- read endpoints derive their ETag from it.
+ALTER TABLE company ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
+ALTER TABLE vacancy ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
+ALTER TABLE company_support ADD (version NUMBER(19) DEFAULT 0 NOT NULL);
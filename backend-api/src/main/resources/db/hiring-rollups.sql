@@ -0,0 +1,28 @@
+-- Run once after deploying the hiring funnel to fill the daily rollups from the existing candidacies.
+-- The rows are recomputed from the candidacy table, so the script can be rerun safely outside peak hours.
+-- Candidacies decided before decision_date existed have no decision date and only count as applications.
+MERGE INTO hiring_daily_rollup r
+USING (
+    SELECT vacancy_id, application_date AS rollup_date, COUNT(*) AS applications
+    FROM candidacy
+    GROUP BY vacancy_id, application_date
+) c
+ON (r.vacancy_id = c.vacancy_id AND r.rollup_date = c.rollup_date)
+WHEN MATCHED THEN UPDATE SET r.applications = c.applications
+WHEN NOT MATCHED THEN INSERT (vacancy_id, rollup_date, applications)
+    VALUES (c.vacancy_id, c.rollup_date, c.applications);
+
+MERGE INTO hiring_decision_rollup r
+USING (
+    SELECT vacancy_id, decision_date AS rollup_date,
+        GREATEST(decision_date - application_date, 0) AS days_to_decision,
+        SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END) AS approvals,
+        SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END) AS rejections
+    FROM candidacy
+    WHERE decision_date IS NOT NULL AND status <> 'UNDER_ANALYSIS'
+    GROUP BY vacancy_id, decision_date, GREATEST(decision_date - application_date, 0)
+) c
+ON (r.vacancy_id = c.vacancy_id AND r.rollup_date = c.rollup_date AND r.days_to_decision = c.days_to_decision)
+WHEN MATCHED THEN UPDATE SET r.approvals = c.approvals, r.rejections = c.rejections
+WHEN NOT MATCHED THEN INSERT (vacancy_id, rollup_date, days_to_decision, approvals, rejections)
+    VALUES (c.vacancy_id, c.rollup_date, c.days_to_decision, c.approvals, c.rejections);
@@ -0,0 +1,29 @@
+-- Run once against an existing Oracle schema before deploying pooled id allocation.
+-- Every sequence is recreated with INCREMENT BY 50 (the allocationSize of each entity) and
+-- a START WITH value whose first block begins right after the current highest id.
+DECLARE
+    PROCEDURE pool(sequence_name VARCHAR2, table_name VARCHAR2) IS
+        next_value NUMBER;
+    BEGIN
+        EXECUTE IMMEDIATE 'SELECT NVL(MAX(id), 0) + 50 FROM ' || table_name INTO next_value;
+        BEGIN
+            EXECUTE IMMEDIATE 'DROP SEQUENCE ' || sequence_name;
+        EXCEPTION
+            WHEN OTHERS THEN
+                IF SQLCODE != -2289 THEN
+                    RAISE;
+                END IF;
+        END;
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || sequence_name || ' START WITH ' || next_value || ' INCREMENT BY 50';
+    END;
+BEGIN
+    pool('USERS_SEQ', 'users');
+    pool('COMPANY_SEQ', 'company');
+    pool('CANDIDATE_SEQ', 'candidate');
+    pool('VACANCY_SEQ', 'vacancy');
+    pool('CANDIDACY_SEQ', 'candidacy');
+    pool('COMPANY_SUPPORT_SEQ', 'company_support');
+END;
+/
+
+ALTER TABLE users MODIFY id DROP IDENTITY;
@@ -0,0 +1,161 @@
+package br.com.fiap.acessly;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.CompanySupportRepository;
+import br.com.fiap.acessly.repository.OutboxEventRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+import br.com.fiap.acessly.service.CandidateService;
+import br.com.fiap.acessly.service.CompanyService;
+import br.com.fiap.acessly.service.VacancyService;
+
+/**
+ * Seeds the user → company → vacancy → candidate graph shared by the integration tests and removes
+ * everything again, through the services where in-memory indexes and caches must follow.
+ */
+@TestComponent
+public class TestData {
+
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final VacancyRepository vacancyRepository;
+    private final CandidateRepository candidateRepository;
+    private final CandidacyRepository candidacyRepository;
+    private final CompanySupportRepository companySupportRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final VacancyService vacancyService;
+    private final CandidateService candidateService;
+    private final CompanyService companyService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestData(UserRepository userRepository, CompanyRepository companyRepository,
+            VacancyRepository vacancyRepository, CandidateRepository candidateRepository,
+            CandidacyRepository candidacyRepository, CompanySupportRepository companySupportRepository,
+            OutboxEventRepository outboxEventRepository, VacancyService vacancyService,
+            CandidateService candidateService, CompanyService companyService, JdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.companyRepository = companyRepository;
+        this.vacancyRepository = vacancyRepository;
+        this.candidateRepository = candidateRepository;
+        this.candidacyRepository = candidacyRepository;
+        this.companySupportRepository = companySupportRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.vacancyService = vacancyService;
+        this.candidateService = candidateService;
+        this.companyService = companyService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public User user(String name, String email, UserRole role) {
+        return user(userOf(name, email, role));
+    }
+
+    public User.UserBuilder userOf(String name, String email, UserRole role) {
+        return User.builder().name(name).email(email).password("12345678").userRole(role);
+    }
+
+    public User user(User.UserBuilder user) {
+        return userRepository.save(user.build());
+    }
+
+    public Company company(String email) {
+        return company(companyOf(user("Empresa", email, UserRole.COMPANY)));
+    }
+
+    public Company.CompanyBuilder companyOf(User user) {
+        return Company.builder()
+                .user(user).name("Acessly").sector("Tecnologia").acessibilityType(AcessibilityType.HIGH);
+    }
+
+    public Company company(Company.CompanyBuilder company) {
+        return companyRepository.save(company.build());
+    }
+
+    public Vacancy vacancy(Company company, String title) {
+        return vacancy(vacancyOf(company, title));
+    }
+
+    public Vacancy.VacancyBuilder vacancyOf(Company company, String title) {
+        return Vacancy.builder()
+                .company(company).title(title).vacancyType(VacancyType.REMOTE).accessibilityOffered("Leitor de tela");
+    }
+
+    public Vacancy vacancy(Vacancy.VacancyBuilder vacancy) {
+        return vacancyRepository.save(vacancy.build());
+    }
+
+    public Candidate candidate(String name, String email) {
+        return candidate(candidateOf(user(name, email, UserRole.CANDIDATE)));
+    }
+
+    public Candidate.CandidateBuilder candidateOf(User user) {
+        return Candidate.builder()
+                .user(user).disabilityType(DisabilityType.VISUAL).requiredAcessibility("Leitor de tela");
+    }
+
+    public Candidate candidate(Candidate.CandidateBuilder candidate) {
+        return candidateRepository.save(candidate.build());
+    }
+
+    public List<Long> candidateIds(String emailPrefix, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(candidate("Candidato " + i, emailPrefix + i + "@acessly.com").getId());
+        }
+        return ids;
+    }
+
+    public Candidacy candidacy(Candidate candidate, Vacancy vacancy, LocalDate applicationDate,
+            CandidacyStatus status) {
+        return candidacyRepository.save(Candidacy.builder()
+                .candidate(candidate).vacancy(vacancy).applicationDate(applicationDate).status(status).build());
+    }
+
+    public void deleteAll() {
+        jdbcTemplate.update("delete from hiring_daily_rollup");
+        jdbcTemplate.update("delete from hiring_decision_rollup");
+        companySupportRepository.deleteAll();
+        candidacyRepository.deleteAll();
+        candidateRepository.findAll().forEach(candidate -> candidateService.deleteCandidate(candidate.getId()));
+        vacancyRepository.findAll().forEach(vacancy -> vacancyService.deleteVacancy(vacancy.getId()));
+        companyRepository.findAll().forEach(company -> companyService.deleteCompany(company.getId()));
+        outboxEventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    public static RequestPostProcessor companyJwt(Long companyId) {
+        return jwt().jwt(token -> token.claim("companyId", companyId))
+                .authorities(new SimpleGrantedAuthority("ROLE_COMPANY"));
+    }
+
+    public static RequestPostProcessor companyUserJwt(String email) {
+        return jwt().jwt(token -> token.subject(email)).authorities(new SimpleGrantedAuthority("ROLE_COMPANY"));
+    }
+
+    public static RequestPostProcessor candidateJwt() {
+        return jwt().authorities(new SimpleGrantedAuthority("ROLE_CANDIDATE"));
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.App;
+import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+import br.com.fiap.acessly.service.CandidacyService;
+
+@Tag("benchmark")
+class CandidacyExportBenchmark {
+
+    private static final int APPLICANTS = 200_000;
+    private static final long FIRST_ID = 1_000_000;
+    private static final long SAMPLE_AT_BYTES = 8L << 20;
+
+    private record Result(String name, long rows, long bytes, long nanos, long liveHeap) {
+    }
+
+    private interface Export {
+
+        long writeTo(OutputStream out) throws IOException;
+    }
+
+    private static class SamplingOutputStream extends OutputStream {
+
+        private long bytes;
+        private long liveHeap;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int written) {
+            if (bytes < SAMPLE_AT_BYTES && bytes + written >= SAMPLE_AT_BYTES) {
+                System.gc();
+                liveHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            }
+            bytes += written;
+        }
+    }
+
+    @Test
+    void exportApplicants() throws IOException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:export;MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false")) {
+
+            User user = context.getBean(UserRepository.class).save(User.builder().name("Empresa")
+                    .email("empresa@export.com").password("12345678").userRole(UserRole.COMPANY).build());
+            Company company = context.getBean(CompanyRepository.class).save(Company.builder().user(user)
+                    .name("Export").sector("Tecnologia").acessibilityType(AcessibilityType.HIGH).build());
+            Long vacancyId = context.getBean(VacancyRepository.class).save(Vacancy.builder().company(company)
+                    .title("Vaga concorrida").vacancyType(VacancyType.REMOTE).accessibilityOffered("Rampa").build())
+                    .getId();
+
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            jdbc.update("insert into users (id, name, email, password, user_type) "
+                    + "select x, 'Candidato ' || x, 'candidato' || x || '@export.com', '12345678', 'CANDIDATE' "
+                    + "from system_range(?, ?)", FIRST_ID, FIRST_ID + APPLICANTS - 1);
+            jdbc.update("insert into candidate (id, user_id, disability_type, required_acessibility) "
+                    + "select x, x, 'VISUAL', 'Leitor de tela' from system_range(?, ?)",
+                    FIRST_ID, FIRST_ID + APPLICANTS - 1);
+            jdbc.update("insert into candidacy (id, candidate_id, vacancy_id, application_date, status) "
+                    + "select x, x, ?, current_date, 'UNDER_ANALYSIS' from system_range(?, ?)",
+                    vacancyId, FIRST_ID, FIRST_ID + APPLICANTS - 1);
+
+            CandidacyService candidacyService = context.getBean(CandidacyService.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            for (MediaType format : List.of(MediaType.APPLICATION_NDJSON, MediaType.parseMediaType("text/csv"))) {
+                measure("warmup", out -> candidacyService.exportCandidaciesByVacancy(vacancyId, format, out));
+            }
+            Result list = measure("list", out -> {
+                List<CandidacyResponse> candidacies = candidacyService.getCandidaciesByVacancy(vacancyId);
+                objectMapper.writeValue(out, candidacies);
+                return candidacies.size();
+            });
+            Result ndjson = measure("stream-ndjson",
+                    out -> candidacyService.exportCandidaciesByVacancy(vacancyId, MediaType.APPLICATION_NDJSON, out));
+            Result csv = measure("stream-csv", out -> candidacyService.exportCandidaciesByVacancy(vacancyId,
+                    MediaType.parseMediaType("text/csv"), out));
+
+            for (Result result : List.of(list, ndjson, csv)) {
+                System.out.printf("[export] %-13s %,d rows, %,d MB written in %,.2f s, live heap mid-export %,d MB%n",
+                        result.name(), result.rows(), result.bytes() >> 20, result.nanos() / 1_000_000_000.0,
+                        result.liveHeap() >> 20);
+            }
+
+            assertThat(ndjson.rows()).isEqualTo(APPLICANTS);
+            assertThat(csv.rows()).isEqualTo(APPLICANTS);
+            assertThat(ndjson.liveHeap()).isLessThan(list.liveHeap() / 4);
+            assertThat(csv.liveHeap()).isLessThan(list.liveHeap() / 4);
+        }
+    }
+
+    private static Result measure(String name, Export export) throws IOException {
+        System.gc();
+        long baseline = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        SamplingOutputStream out = new SamplingOutputStream();
+        long start = System.nanoTime();
+        long rows = export.writeTo(out);
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(name, rows, out.bytes, elapsed, Math.max(0, out.liveHeap - baseline));
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.fiap.acessly.App;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@Tag("benchmark")
+class CandidacySeedBenchmark {
+
+    private static final int CANDIDATES = 1_000;
+    private static final int VACANCIES = 100;
+    private static final int CHUNK_SIZE = 1_000;
+    private static final long LATENCY_MICROS = Long.getLong("benchmark.roundTripMicros", 100);
+
+    private record Result(String name, int rows, long nanos, long roundTrips) {
+
+        double insertsPerSecond() {
+            return rows / (nanos / 1_000_000_000.0);
+        }
+    }
+
+    @Test
+    void seedCandidacies() {
+        Result baseline = seed("baseline",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=1",
+                "--spring.jpa.properties.hibernate.order_inserts=false",
+                "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=none");
+        Result pooled = seed("pooled-batched");
+
+        for (Result result : List.of(baseline, pooled)) {
+            System.out.printf("[seed] %-15s %,d candidacies in %,.2f s -> %,.0f inserts/s, %,d round trips (%d us each)%n",
+                    result.name(), result.rows(), result.nanos() / 1_000_000_000.0, result.insertsPerSecond(),
+                    result.roundTrips(), LATENCY_MICROS);
+        }
+        System.out.printf("[seed] speedup %.1fx%n", pooled.insertsPerSecond() / baseline.insertsPerSecond());
+
+        assertThat(pooled.roundTrips()).isLessThan(baseline.roundTrips() / 10);
+    }
+
+    private Result seed(String name, String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:seed-" + name + ";MODE=Oracle;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.generate_statistics=false"));
+        args.addAll(List.of(overrides));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource
+                                ? new RoundTripCountingDataSource(dataSource, LATENCY_MICROS)
+                                : bean;
+                    }
+                }))
+                .run(args.toArray(String[]::new))) {
+
+            TransactionTemplate transactions = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            CandidateRepository candidateRepository = context.getBean(CandidateRepository.class);
+            CompanyRepository companyRepository = context.getBean(CompanyRepository.class);
+            VacancyRepository vacancyRepository = context.getBean(VacancyRepository.class);
+            CandidacyRepository candidacyRepository = context.getBean(CandidacyRepository.class);
+            RoundTripCountingDataSource dataSource = context.getBean(RoundTripCountingDataSource.class);
+
+            List<Long> candidateIds = new ArrayList<>();
+            List<Long> vacancyIds = new ArrayList<>();
+            transactions.executeWithoutResult(status -> {
+                User companyUser = userRepository.save(User.builder().name("Empresa").email("empresa@seed.com")
+                        .password("12345678").userRole(UserRole.COMPANY).build());
+                Company company = companyRepository.save(Company.builder().user(companyUser).name("Seed")
+                        .sector("Tecnologia").acessibilityType(AcessibilityType.HIGH).build());
+
+                for (int i = 0; i < VACANCIES; i++) {
+                    vacancyIds.add(vacancyRepository.save(Vacancy.builder().company(company).title("Vaga " + i)
+                            .vacancyType(VacancyType.REMOTE).accessibilityOffered("Rampa").build()).getId());
+                }
+                for (int i = 0; i < CANDIDATES; i++) {
+                    User user = userRepository.save(User.builder().name("Candidato " + i)
+                            .email("candidato" + i + "@seed.com").password("12345678")
+                            .userRole(UserRole.CANDIDATE).build());
+                    candidateIds.add(candidateRepository.save(Candidate.builder().user(user)
+                            .disabilityType(DisabilityType.PHYSICAL).requiredAcessibility("Rampa").build()).getId());
+                }
+            });
+
+            int total = CANDIDATES * VACANCIES;
+            LocalDate today = LocalDate.now();
+            dataSource.reset();
+            long start = System.nanoTime();
+
+            for (int offset = 0; offset < total; offset += CHUNK_SIZE) {
+                int first = offset;
+                transactions.executeWithoutResult(status -> {
+                    List<Candidacy> chunk = new ArrayList<>(CHUNK_SIZE);
+                    for (int row = first; row < first + CHUNK_SIZE; row++) {
+                        chunk.add(Candidacy.builder()
+                                .candidate(candidateRepository.getReferenceById(candidateIds.get(row % CANDIDATES)))
+                                .vacancy(vacancyRepository.getReferenceById(vacancyIds.get(row / CANDIDATES)))
+                                .applicationDate(today)
+                                .build());
+                    }
+                    candidacyRepository.saveAll(chunk);
+                });
+            }
+
+            long elapsed = System.nanoTime() - start;
+            assertThat(candidacyRepository.count()).isEqualTo(total);
+            return new Result(name, total, elapsed, dataSource.roundTrips());
+        }
+    }
+}
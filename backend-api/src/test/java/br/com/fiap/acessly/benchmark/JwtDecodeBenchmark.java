@@ -0,0 +1,75 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import br.com.fiap.acessly.config.CachingJwtDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Tag("benchmark")
+class JwtDecodeBenchmark {
+
+    private static final int USERS = 200;
+    private static final int REQUESTS = 20_000;
+
+    @Test
+    void decodeRepeatedTokens() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keys = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keys.getPublic();
+
+        NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(
+                new RSAKey.Builder(publicKey).privateKey((RSAPrivateKey) keys.getPrivate()).build())));
+        List<String> tokens = new ArrayList<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(encoder.encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+                    .issuer("acessly-api").issuedAt(now).expiresAt(now.plus(1, ChronoUnit.HOURS))
+                    .subject("user" + i + "@acessly.com").claim("role", "ROLE_CANDIDATE").build()))
+                    .getTokenValue());
+        }
+
+        JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        JwtDecoder caching = new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(publicKey).build(), 10_000,
+                new SimpleMeterRegistry());
+
+        run(nimbus, tokens, REQUESTS / 4);
+        run(caching, tokens, REQUESTS / 4);
+        double nimbusMicros = run(nimbus, tokens, REQUESTS);
+        double cachingMicros = run(caching, tokens, REQUESTS);
+
+        System.out.printf("[jwt] %,d requests over %d tokens: nimbus %.1f us/request, cached %.1f us/request%n",
+                REQUESTS, USERS, nimbusMicros, cachingMicros);
+
+        assertThat(cachingMicros).isLessThan(nimbusMicros / 5);
+    }
+
+    private static double run(JwtDecoder decoder, List<String> tokens, int requests) {
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            decoder.decode(tokens.get(i % tokens.size()));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / requests;
+    }
+}
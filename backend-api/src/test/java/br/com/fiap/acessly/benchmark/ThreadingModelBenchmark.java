@@ -0,0 +1,125 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+@Tag("benchmark")
+class ThreadingModelBenchmark {
+
+    private static final int CLIENTS = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int ROUND_TRIPS_PER_REQUEST = 3;
+    private static final int ROUND_TRIP_MILLIS = 10;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int[] POOL_SIZES = { 10, 100, 400 };
+
+    private record Result(String model, int poolSize, double requestsPerSecond, double p50, double p99) {
+    }
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+
+        for (int poolSize : POOL_SIZES) {
+            try (HikariDataSource dataSource = dataSource(poolSize)) {
+                results.add(run("platform", poolSize, dataSource,
+                        Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)));
+                ExecutorService virtual = virtualThreadPerTaskExecutor();
+                if (virtual != null)
+                    results.add(run("virtual", poolSize, dataSource, virtual));
+            }
+        }
+
+        System.out.printf("[threads] %,d clients x %d requests, %d round trips of %d ms each, Java %d%n",
+                CLIENTS, REQUESTS_PER_CLIENT, ROUND_TRIPS_PER_REQUEST, ROUND_TRIP_MILLIS, Runtime.version().feature());
+        if (virtualThreadPerTaskExecutor() == null)
+            System.out.println("[threads] virtual threads need Java 21+, only the platform model was measured");
+        for (Result result : results) {
+            System.out.printf("[threads] %-8s pool %3d: %,8.0f req/s, p50 %,6.0f ms, p99 %,6.0f ms%n",
+                    result.model(), result.poolSize(), result.requestsPerSecond(), result.p50(), result.p99());
+        }
+
+        assertThat(results).allSatisfy(result -> assertThat(result.requestsPerSecond()).isPositive());
+    }
+
+    private static Result run(String model, int poolSize, HikariDataSource dataSource, ExecutorService executor)
+            throws Exception {
+        int requests = CLIENTS * REQUESTS_PER_CLIENT;
+        long[] latencies = new long[requests];
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    handle(dataSource);
+                    latencies[request] = System.nanoTime() - submitted;
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        return new Result(model, poolSize, requests / seconds, latencies[requests / 2] / 1_000_000.0,
+                latencies[requests * 99 / 100] / 1_000_000.0);
+    }
+
+    private static void handle(HikariDataSource dataSource) throws SQLException {
+        for (int i = 0; i < ROUND_TRIPS_PER_REQUEST; i++) {
+            try (Connection connection = dataSource.getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("call round_trip(" + TimeUnit.MILLISECONDS.toNanos(ROUND_TRIP_MILLIS) + ")");
+            }
+        }
+    }
+
+    private static HikariDataSource dataSource(int poolSize) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:threads;MODE=Oracle;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(5));
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "create alias if not exists round_trip for 'java.util.concurrent.locks.LockSupport.parkNanos'");
+        }
+        return dataSource;
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
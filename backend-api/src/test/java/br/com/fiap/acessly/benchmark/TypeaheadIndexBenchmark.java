@@ -0,0 +1,66 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.acessly.service.TypeaheadIndex;
+
+@Tag("benchmark")
+class TypeaheadIndexBenchmark {
+
+    private static final int VACANCIES = 100_000;
+    private static final int COMPANIES = 10_000;
+    private static final int QUERIES = 20_000;
+
+    private static final String[] ROLES = { "Desenvolvedor", "Analista", "Assistente", "Engenheiro", "Designer",
+            "Técnico", "Coordenador", "Especialista", "Consultor", "Operador" };
+    private static final String[] AREAS = { "Java", "de dados", "administrativo", "de software", "gráfico",
+            "de suporte", "de atendimento", "financeiro", "de logística", "de recursos humanos", "mobile",
+            "de segurança", "de marketing", "de qualidade", "de vendas" };
+    private static final String[] LEVELS = { "", " Júnior", " Pleno", " Sênior" };
+    private static final String[] SECTORS = { "Tecnologia", "Saúde", "Educação", "Varejo", "Finanças", "Logística",
+            "Indústria", "Serviços" };
+    private static final String[] PREFIXES = { "d", "de", "des", "ana", "java", "sen", "tec", "eng", "sa", "vare",
+            "empresa 1", "analista de d", "sup", "jun", "log", "coordenador de q" };
+
+    @Test
+    void suggestTopTen() {
+        TypeaheadIndex index = new TypeaheadIndex(null, null);
+        Random random = new Random(42);
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= VACANCIES; id++) {
+            index.index(id, ROLES[random.nextInt(ROLES.length)] + " " + AREAS[random.nextInt(AREAS.length)]
+                    + LEVELS[random.nextInt(LEVELS.length)]);
+        }
+        for (long id = 1; id <= COMPANIES; id++) {
+            index.indexCompany(id, "Empresa " + id, SECTORS[random.nextInt(SECTORS.length)]);
+        }
+        double indexSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        for (int i = 0; i < 2_000; i++) {
+            index.suggest(PREFIXES[i % PREFIXES.length], TypeaheadIndex.MAX_SUGGESTIONS);
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStart = System.nanoTime();
+            int found = index.suggest(PREFIXES[i % PREFIXES.length], TypeaheadIndex.MAX_SUGGESTIONS).size();
+            latencies[i] = System.nanoTime() - queryStart;
+            assertThat(found).isPositive();
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[QUERIES / 2] / 1_000.0;
+        double p99 = latencies[QUERIES * 99 / 100] / 1_000.0;
+        System.out.printf("[typeahead] %,d vacancies and %,d companies indexed in %,.2f s, top-%d p50 %.1f µs, "
+                + "p99 %.1f µs%n", VACANCIES, COMPANIES, indexSeconds, TypeaheadIndex.MAX_SUGGESTIONS, p50, p99);
+
+        assertThat(p99).isLessThan(1_000);
+    }
+}
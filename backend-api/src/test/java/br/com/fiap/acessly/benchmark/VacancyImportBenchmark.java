@@ -0,0 +1,100 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import br.com.fiap.acessly.App;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.repository.CompanyRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+import br.com.fiap.acessly.service.VacancyService;
+
+@Tag("benchmark")
+class VacancyImportBenchmark {
+
+    private static final int ROWS = 50_000;
+
+    @Test
+    void importVacancies() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(App.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:import;MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false")) {
+
+            User user = context.getBean(UserRepository.class).save(User.builder().name("Agência")
+                    .email("agencia@import.com").password("12345678").userRole(UserRole.COMPANY).build());
+            Company company = context.getBean(CompanyRepository.class).save(Company.builder().user(user)
+                    .name("Agência").sector("Recrutamento").acessibilityType(AcessibilityType.HIGH).build());
+
+            InputStream body = new GeneratedLines(ROWS, i -> "{\"companyId\": " + company.getId()
+                    + ", \"title\": \"Vaga " + i + "\", \"description\": \"Atendimento ao cliente em equipe "
+                    + i % 97 + "\", \"vacancyType\": \"HYBRID\", \"city\": \"São Paulo\", \"state\": \"SP\", "
+                    + "\"salary\": 3500.00, \"accessibilityOffered\": \"Rampa de acesso e leitor de tela\"}");
+
+            System.gc();
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            long before = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long start = System.nanoTime();
+            ImportReport report = context.getBean(VacancyService.class).importVacancies(body,
+                    MediaType.APPLICATION_NDJSON);
+            long elapsed = System.nanoTime() - start;
+
+            long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            double seconds = elapsed / 1_000_000_000.0;
+            System.out.printf("[import] %,d vacancies in %,.2f s -> %,.0f rows/s, heap %,d MB before, %,d MB peak%n",
+                    report.imported(), seconds, report.imported() / seconds, before >> 20, peak >> 20);
+
+            assertThat(report.imported()).isEqualTo(ROWS);
+            assertThat(report.rejected()).isZero();
+            assertThat(context.getBean(VacancyRepository.class).count()).isEqualTo(ROWS);
+        }
+    }
+
+    private static class GeneratedLines extends InputStream {
+
+        private final int lines;
+        private final IntFunction<String> generator;
+        private int next;
+        private byte[] buffer = new byte[0];
+        private int position;
+
+        GeneratedLines(int lines, IntFunction<String> generator) {
+            this.lines = lines;
+            this.generator = generator;
+        }
+
+        @Override
+        public int read() {
+            if (position == buffer.length) {
+                if (next == lines)
+                    return -1;
+                buffer = (generator.apply(next++) + "\n").getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return buffer[position++] & 0xff;
+        }
+    }
+}
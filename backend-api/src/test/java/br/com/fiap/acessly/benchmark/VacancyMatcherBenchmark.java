@@ -0,0 +1,80 @@
+package br.com.fiap.acessly.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.service.VacancyMatcher;
+
+@Tag("benchmark")
+class VacancyMatcherBenchmark {
+
+    private static final int VACANCIES = 100_000;
+    private static final int QUERIES = 2_000;
+    private static final int LIMIT = 20;
+
+    private static final String[] TITLES = { "Desenvolvedor Java", "Analista de dados", "Atendimento ao cliente",
+            "Designer gráfico", "Assistente administrativo", "Engenheiro de software", "Suporte técnico" };
+    private static final String[] SKILLS = { "Spring Boot e SQL", "Python e Power BI", "Excel e comunicação",
+            "Figma e Photoshop", "Kotlin e Android", "Redes e Linux", "React e TypeScript" };
+    private static final String[] ACCESSIBILITY = { "Rampa de acesso", "Leitor de tela NVDA", "Intérprete de Libras",
+            "Banheiro adaptado e elevador", "Legendas em reuniões", "Horário flexível", "Piso tátil" };
+    private static final String[][] LOCATIONS = { { "São Paulo", "SP" }, { "Campinas", "SP" },
+            { "Rio de Janeiro", "RJ" }, { "Recife", "PE" }, { "Curitiba", "PR" }, { "Belo Horizonte", "MG" } };
+
+    @Test
+    void recommendTopVacancies() {
+        VacancyMatcher matcher = new VacancyMatcher(null, null);
+        Random random = new Random(42);
+        VacancyType[] types = VacancyType.values();
+
+        long start = System.nanoTime();
+        for (long id = 1; id <= VACANCIES; id++) {
+            String[] location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            matcher.index(id, TITLES[random.nextInt(TITLES.length)], SKILLS[random.nextInt(SKILLS.length)],
+                    ACCESSIBILITY[random.nextInt(ACCESSIBILITY.length)] + " e "
+                            + ACCESSIBILITY[random.nextInt(ACCESSIBILITY.length)],
+                    types[random.nextInt(types.length)], location[0], location[1]);
+        }
+        double indexSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        DisabilityType[] disabilities = DisabilityType.values();
+        for (long id = 1; id <= 50; id++) {
+            String[] location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            User user = User.builder().id(id).city(location[0]).state(location[1]).build();
+            matcher.indexCandidate(Candidate.builder().id(id).user(user)
+                    .disabilityType(disabilities[random.nextInt(disabilities.length)])
+                    .skills(SKILLS[random.nextInt(SKILLS.length)])
+                    .requiredAcessibility(ACCESSIBILITY[random.nextInt(ACCESSIBILITY.length)]).build());
+        }
+
+        for (int i = 0; i < 200; i++) {
+            matcher.recommend(1L + i % 50, LIMIT);
+        }
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long queryStart = System.nanoTime();
+            List<VacancyMatcher.Match> matches = matcher.recommend(1L + i % 50, LIMIT).orElseThrow();
+            latencies[i] = System.nanoTime() - queryStart;
+            assertThat(matches).hasSize(LIMIT);
+        }
+        Arrays.sort(latencies);
+
+        double p50 = latencies[QUERIES / 2] / 1_000_000.0;
+        double p99 = latencies[QUERIES * 99 / 100] / 1_000_000.0;
+        System.out.printf("[match] %,d vacancies indexed in %,.2f s, top-%d p50 %.2f ms, p99 %.2f ms%n",
+                VACANCIES, indexSeconds, LIMIT, p50, p99);
+
+        assertThat(p99).isLessThan(200);
+    }
+}
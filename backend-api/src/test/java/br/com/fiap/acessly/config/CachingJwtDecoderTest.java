@@ -0,0 +1,67 @@
+package br.com.fiap.acessly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingJwtDecoderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private Instant expiresAt;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        decoder = new CachingJwtDecoder(token -> {
+            verifications.incrementAndGet();
+            if (token.startsWith("bad"))
+                throw new BadJwtException("invalid signature");
+            return Jwt.withTokenValue(token).header("alg", "RS256").subject(token)
+                    .issuedAt(expiresAt.minus(1, ChronoUnit.HOURS)).expiresAt(expiresAt).build();
+        }, 100, meterRegistry);
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verify").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        assertThatThrownBy(() -> decoder.decode("bad-token")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad-token")).isInstanceOf(BadJwtException.class);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void expiredTokensAreVerifiedAgain() {
+        expiresAt = Instant.now().minusSeconds(1);
+
+        decoder.decode("token-a");
+        decoder.decode("token-a");
+
+        assertThat(verifications).hasValue(2);
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.fiap.acessly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static br.com.fiap.acessly.TestData.candidateJwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CompanySupportRequest;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.service.CompanySupportService;
+import br.com.fiap.acessly.service.VacancyService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private CompanySupportService companySupportService;
+
+    private Long companyId;
+    private Long vacancyId;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("etag@acessly.com");
+        companyId = company.getId();
+        vacancyId = testData.vacancy(testData.vacancyOf(company, "Desenvolvedor Java")
+                .description("Vaga com equipe acessível")).getId();
+
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void vacancyIsNotReloadedWhenTheETagMatches() throws Exception {
+        String etag = mockMvc.perform(get("/vacancies/" + vacancyId).with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        mockMvc.perform(get("/vacancies/" + vacancyId).header(HttpHeaders.IF_NONE_MATCH, etag).with(candidateJwt()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""))
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void vacancyETagChangesAfterAnUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/vacancies/" + vacancyId).with(candidateJwt()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        vacancyService.updateVacancy(vacancyId, new VacancyRequest(companyId, "Desenvolvedor Java Sênior",
+                "Vaga com equipe acessível", VacancyType.HYBRID, null, null, null, "Leitor de tela"));
+
+        String updated = mockMvc.perform(get("/vacancies/" + vacancyId).header(HttpHeaders.IF_NONE_MATCH, etag)
+                .with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(etag);
+    }
+
+    @Test
+    void companyAnswersNotModifiedWithoutTouchingTheCache() throws Exception {
+        String etag = mockMvc.perform(get("/companies/" + companyId).with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/companies/" + companyId).header(HttpHeaders.IF_NONE_MATCH, etag).with(candidateJwt()))
+                .andExpect(status().isNotModified())
+                .andExpect(SqlStatements.count(1));
+    }
+
+    @Test
+    void supportListETagChangesWhenAResourceIsAdded() throws Exception {
+        String empty = mockMvc.perform(get("/company-support/companies/" + companyId).with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        companySupportService.createCompanySupport(
+                new CompanySupportRequest(companyId, "Intérprete de Libras", "Disponível em entrevistas"));
+
+        mockMvc.perform(get("/company-support/companies/" + companyId).header(HttpHeaders.IF_NONE_MATCH, empty)
+                .with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(empty)));
+    }
+
+    @Test
+    void unknownVacancyIsNotFound() throws Exception {
+        mockMvc.perform(get("/vacancies/" + (vacancyId + 1000)).with(candidateJwt()))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
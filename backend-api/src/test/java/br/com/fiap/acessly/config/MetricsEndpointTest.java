@@ -0,0 +1,66 @@
+package br.com.fiap.acessly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void scrapeExposesRequestRepositoryHibernateAndPoolMetrics() throws Exception {
+        mockMvc.perform(get("/vacancies").with(jwt())).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*handler=\"VacancyController.getVacancies\""
+                        + "[^}]*status=\"200\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"VacancyRepository\"")
+                .contains("hibernate_statements_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_cache_query_requests_total")
+                .contains("hikaricp_connections_active")
+                .containsPattern("cache_size\\{[^}]*cache=\"jwt\"")
+                .containsPattern("cache_size\\{[^}]*cache=\"companies\"");
+    }
+
+    @Test
+    void scrapeIsOnlyServedToInternalNetworks() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("10.1.2.3"))).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.7")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").with(remoteAddr("203.0.113.7")).with(jwt()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void cachesEndpointIsNotExposed() throws Exception {
+        mockMvc.perform(delete("/actuator/caches").with(jwt())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/actuator/caches").with(jwt())).andExpect(status().isNotFound());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.fiap.acessly.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher count(int expected) {
+        return result -> assertThat(result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE))
+                .as("SQL statements issued by %s %s", result.getRequest().getMethod(),
+                        result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,234 @@
+package br.com.fiap.acessly.config;
+
+import static br.com.fiap.acessly.TestData.companyJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@SpringBootTest(properties = {
+        "acessly.statement-budget.mode=REJECT",
+        "acessly.statement-budget.endpoints[CompanySupportController.getSupportsByCompany]=0" })
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class StatementBudgetTest {
+
+    private static final int IMPORTED_ROWS = 1_201;
+    private static final int UPDATED_CANDIDACIES = 1_201;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StatementBudgetProperties budgets;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private VacancyRepository vacancyRepository;
+
+    @Autowired
+    private CandidacyRepository candidacyRepository;
+
+    private User candidateUser;
+    private Long companyId;
+    private Long vacancyId;
+    private Long candidateId;
+    private Long candidacyId;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("orcamento@acessly.com");
+        companyId = company.getId();
+
+        Vacancy vacancy = null;
+        for (int i = 0; i < 5; i++) {
+            vacancy = testData.vacancy(company, "Desenvolvedor " + i);
+        }
+        vacancyId = vacancy.getId();
+
+        for (int i = 0; i < 5; i++) {
+            candidateUser = testData.user("Candidato " + i, "orcamento" + i + "@acessly.com", UserRole.CANDIDATE);
+            Candidate candidate = testData.candidate(testData.candidateOf(candidateUser));
+            candidateId = candidate.getId();
+            candidacyId = testData.candidacy(candidate, vacancy, LocalDate.now(), CandidacyStatus.UNDER_ANALYSIS)
+                    .getId();
+        }
+
+        clearCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void readEndpointsIssueAFixedNumberOfStatements() throws Exception {
+        perform(get("/vacancies?size=3"), 3);
+        perform(get("/vacancies/" + vacancyId), 3);
+        perform(get("/vacancies/companies/" + companyId + "/applicants"), 1);
+        perform(get("/vacancies/scroll?size=3"), 2);
+        perform(get("/companies?size=3"), 2);
+        perform(get("/companies/" + companyId), 2);
+        perform(get("/candidates?size=3"), 3);
+        perform(get("/candidates/" + candidateId), 1);
+        perform(get("/candidacies?size=3"), 2);
+        perform(get("/candidacies/" + candidacyId), 1);
+        perform(get("/candidacies/candidates/" + candidateId), 1);
+        perform(get("/users?size=3"), 2);
+        perform(get("/users/" + candidateUser.getId()), 1);
+    }
+
+    @Test
+    void statusUpdateIssuesAFixedNumberOfStatements() throws Exception {
+        perform(patch("/candidacies/" + candidacyId + "/status?status=APPROVED"), 7);
+    }
+
+    @Test
+    void budgetedEndpointsRunWithinTheirMeasuredBudget() throws Exception {
+        Set<String> exercised = new HashSet<>();
+        exercised.add(budgeted(get("/vacancies?size=3")));
+        exercised.add(budgeted(get("/vacancies/" + vacancyId)));
+        exercised.add(budgeted(get("/vacancies/companies/" + companyId + "/applicants")));
+        exercised.add(budgeted(get("/vacancies/companies/" + companyId + "/funnel")));
+        exercised.add(budgeted(get("/vacancies/scroll?size=3")));
+        exercised.add(budgeted(get("/vacancies/suggestions?q=desenv")));
+        exercised.add(budgeted(get("/candidacies?size=3")));
+        exercised.add(budgeted(get("/candidacies/vacancy/" + vacancyId)));
+        exercised.add(budgeted(get("/candidacies/candidates/" + candidateId)));
+        exercised.add(budgeted(get("/candidates?size=3")));
+        exercised.add(budgeted(get("/companies?size=3")));
+
+        exercised.add(imported(post("/vacancies/import"), IMPORTED_ROWS, line -> "{\"companyId\": " + companyId
+                + ", \"title\": \"Vaga " + line + "\", \"vacancyType\": \"REMOTE\", \"accessibilityOffered\": \"Libras\"}"));
+        exercised.add(imported(post("/companies/import"), IMPORTED_ROWS, line -> "{\"userId\": " + candidateUser.getId()
+                + ", \"name\": \"Empresa " + line + "\", \"sector\": \"Varejo\", \"acessibilityType\": \"LOW\"}"));
+        exercised.add(imported(post("/company-support/import"), IMPORTED_ROWS, line -> "{\"companyId\": " + companyId
+                + ", \"supportType\": \"Apoio " + line + "\", \"description\": \"Mentoria\"}"));
+
+        List<Long> decided = seedDecidedCandidacies(UPDATED_CANDIDACIES);
+        exercised.add(handlerOf(mockMvc.perform(patch("/candidacies/status").with(companyJwt(companyId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vacancyId\": " + vacancyId + ", \"status\": \"UNDER_ANALYSIS\", \"ids\": " + decided + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(UPDATED_CANDIDACIES))
+                .andReturn()));
+
+        Set<String> configured = new HashSet<>(budgets.endpoints().keySet());
+        configured.remove("CompanySupportController.getSupportsByCompany");
+        assertThat(exercised).isEqualTo(configured);
+    }
+
+    @Test
+    void rejectsRequestsOverBudget() throws Exception {
+        var result = mockMvc.perform(get("/company-support/companies/" + companyId).with(companyJwt(companyId)))
+                .andExpect(status().isInternalServerError())
+                .andReturn();
+
+        assertThat(result.getResolvedException()).isInstanceOf(StatementBudgetExceededException.class);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, int statements) throws Exception {
+        clearCaches();
+        mockMvc.perform(request.with(companyJwt(companyId)))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(SqlStatements.count(statements));
+    }
+
+    private String budgeted(MockHttpServletRequestBuilder request) throws Exception {
+        clearCaches();
+        MvcResult result = mockMvc.perform(request.with(companyJwt(companyId)))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        String handler = handlerOf(result);
+        SqlStatements.count(budgets.limitFor(handler)).match(result);
+        return handler;
+    }
+
+    private String imported(MockHttpServletRequestBuilder request, int rows, IntFunction<String> row)
+            throws Exception {
+        String body = IntStream.rangeClosed(1, rows).mapToObj(row).collect(Collectors.joining("\n"));
+        MvcResult result = mockMvc.perform(request.with(companyJwt(companyId))
+                .contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(rows))
+                .andReturn();
+        assertThat((Integer) result.getRequest().getAttribute(StatementBudgetInterceptor.STATEMENT_COUNT_ATTRIBUTE))
+                .isGreaterThan(budgets.limitFor(handlerOf(result)));
+        return handlerOf(result);
+    }
+
+    private List<Long> seedDecidedCandidacies(int count) {
+        Vacancy vacancy = vacancyRepository.findById(vacancyId).orElseThrow();
+        List<User> users = userRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> User.builder().name("Candidato em lote " + i).email("lote" + i + "@acessly.com")
+                        .password("12345678").userRole(UserRole.CANDIDATE).build())
+                .toList());
+        List<Candidate> candidates = candidateRepository.saveAll(users.stream()
+                .map(user -> testData.candidateOf(user).build())
+                .toList());
+        return candidacyRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> Candidacy.builder().candidate(candidates.get(i)).vacancy(vacancy)
+                        .applicationDate(LocalDate.now()).decisionDate(LocalDate.now())
+                        .status(i % 2 == 0 ? CandidacyStatus.APPROVED : CandidacyStatus.REJECTED).build())
+                .toList())
+                .stream().map(Candidacy::getId).toList();
+    }
+
+    private static String handlerOf(MvcResult result) {
+        HandlerMethod handler = (HandlerMethod) result.getHandler();
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
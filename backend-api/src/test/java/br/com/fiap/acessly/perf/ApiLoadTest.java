@@ -0,0 +1,270 @@
+package br.com.fiap.acessly.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.repository.UserRepository;
+import br.com.fiap.acessly.service.TokenService;
+import br.com.fiap.acessly.service.VacancyMatcher;
+import br.com.fiap.acessly.service.VacancySearchIndex;
+
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:perf;MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "logging.level.root=WARN" })
+class ApiLoadTest {
+
+    private static final Duration SCENARIO_DURATION = Duration.ofSeconds(Long.getLong("perf.seconds", 20));
+    private static final int COMPANIES = Integer.getInteger("perf.companies", 200);
+    private static final int VACANCIES = Integer.getInteger("perf.vacancies", 5_000);
+    private static final int CANDIDATES = Integer.getInteger("perf.candidates", 5_000);
+    private static final int APPLICANTS_PER_VACANCY = 20;
+    private static final String PASSWORD = "12345678";
+
+    private static final long COMPANY_BASE = 1_000_000;
+    private static final long VACANCY_BASE = 1_000_000;
+    private static final long CANDIDATE_BASE = 2_000_000;
+
+    private interface VirtualUser {
+
+        void iterate(Session session) throws Exception;
+    }
+
+    private record Scenario(String name, int users, VirtualUser script) {
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VacancySearchIndex vacancySearchIndex;
+
+    @Autowired
+    private VacancyMatcher vacancyMatcher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final LoadReport report = new LoadReport();
+    private final AtomicLong applications = new AtomicLong();
+
+    @Test
+    void runScenarios() throws Exception {
+        Instant startedAt = Instant.now();
+        seed();
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("browse-vacancies", 32, this::browseVacancies),
+                new Scenario("apply", 16, this::apply),
+                new Scenario("company-review", 8, this::reviewApplicants),
+                new Scenario("login-storm", 16, this::login));
+        for (Scenario scenario : scenarios) {
+            run(scenario);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("scenarioSeconds", SCENARIO_DURATION.toSeconds());
+        settings.put("companies", COMPANIES);
+        settings.put("vacancies", VACANCIES);
+        settings.put("candidates", CANDIDATES);
+        settings.put("candidacies", VACANCIES * APPLICANTS_PER_VACANCY);
+        scenarios.forEach(scenario -> settings.put(scenario.name() + ".users", scenario.users()));
+
+        Path output = Path.of(System.getProperty("perf.report", "target/perf/report.json"));
+        String baseline = System.getProperty("perf.baseline");
+        LoadReport.Report written = report.write(output, startedAt, settings);
+        LoadReport.print(written, baseline != null ? Path.of(baseline) : null);
+        System.out.println("[perf] report written to " + output.toAbsolutePath());
+
+        assertThat(written.endpoints()).allSatisfy(endpoint -> assertThat(endpoint.requests()).isPositive());
+    }
+
+    private void browseVacancies(Session session) throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(VACANCIES / 20);
+        session.get("GET /vacancies", "/vacancies?page=" + page + "&size=20&sort=id");
+        session.get("GET /vacancies/{id}", "/vacancies/" + randomVacancy());
+        session.get("GET /vacancies?title", "/vacancies?title=desenvolvedor%20java&page=0&size=20");
+    }
+
+    private void apply(Session session) throws Exception {
+        long n = applications.getAndIncrement();
+        long applicants = CANDIDATES / 2;
+        long candidateId = CANDIDATE_BASE + applicants + n % applicants;
+        long vacancyId = VACANCY_BASE + (n / applicants) % VACANCIES;
+        session.send("POST /candidacies", HttpRequest.newBuilder(session.uri("/candidacies"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"candidateId\": " + candidateId + ", \"vacancyId\": " + vacancyId
+                                + ", \"applicationDate\": \"" + LocalDate.now() + "\"}")));
+    }
+
+    private void reviewApplicants(Session session) throws Exception {
+        HttpResponse<String> response = session.get("GET /candidacies/vacancy/{vacancyId}",
+                "/candidacies/vacancy/" + randomVacancy());
+        JsonNode candidacies = objectMapper.readTree(response.body());
+        if (candidacies.isEmpty())
+            return;
+
+        JsonNode candidacy = candidacies.get(ThreadLocalRandom.current().nextInt(candidacies.size()));
+        CandidacyStatus[] statuses = CandidacyStatus.values();
+        session.send("PATCH /candidacies/{id}/status", HttpRequest.newBuilder(session.uri("/candidacies/"
+                + candidacy.get("id").asLong() + "/status?status="
+                + statuses[ThreadLocalRandom.current().nextInt(statuses.length)]))
+                .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private void login(Session session) throws Exception {
+        long userId = CANDIDATE_BASE + ThreadLocalRandom.current().nextInt(CANDIDATES);
+        session.send("POST /auth/login", HttpRequest.newBuilder(session.uri("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\": \"candidato" + userId + "@perf.com\", \"password\": \"" + PASSWORD + "\"}")));
+    }
+
+    private void run(Scenario scenario) throws InterruptedException {
+        Instant deadline = Instant.now().plus(SCENARIO_DURATION);
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < scenario.users(); i++) {
+            Session session = new Session(scenario.name(), tokenFor(scenario, i));
+            Thread thread = new Thread(() -> {
+                while (Instant.now().isBefore(deadline)) {
+                    try {
+                        scenario.script().iterate(session);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        report.record(scenario.name(), "client error", 0, false);
+                    }
+                }
+            }, "perf-" + scenario.name() + "-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        report.scenarioFinished(scenario.name(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private String tokenFor(Scenario scenario, int user) {
+        long userId = switch (scenario.name()) {
+            case "company-review" -> COMPANY_BASE + user % COMPANIES;
+            case "login-storm" -> 0;
+            default -> CANDIDATE_BASE + user % CANDIDATES;
+        };
+        return userId == 0 ? null : tokenService.generateToken(userRepository.findById(userId).orElseThrow());
+    }
+
+    private long randomVacancy() {
+        return VACANCY_BASE + ThreadLocalRandom.current().nextInt(VACANCIES);
+    }
+
+    private void seed() {
+        String password = passwordEncoder.encode(PASSWORD);
+
+        jdbc.update("insert into users (id, name, email, password, user_type, city, state) "
+                + "select x, 'Empresa ' || x, 'empresa' || x || '@perf.com', ?, 'COMPANY', 'São Paulo', 'SP' "
+                + "from system_range(?, ?)", password, COMPANY_BASE, COMPANY_BASE + COMPANIES - 1);
+        jdbc.update("insert into company (id, version, user_id, name, sector, acessibility_type) "
+                + "select x, 0, x, 'Empresa ' || x, 'Tecnologia', 'HIGH' from system_range(?, ?)",
+                COMPANY_BASE, COMPANY_BASE + COMPANIES - 1);
+        jdbc.update("insert into vacancy (id, version, company_id, title, description, vacancy_type, city, state, "
+                + "city_key, state_key, salary, accessibility_offered) "
+                + "select x, 0, ? + mod(x, ?), "
+                + "casewhen(mod(x, 3) = 0, 'Desenvolvedor Java ', casewhen(mod(x, 3) = 1, 'Analista de dados ', "
+                + "'Atendimento ao cliente ')) || x, 'Vaga com equipe acessível e plano de carreira', "
+                + "casewhen(mod(x, 2) = 0, 'REMOTE', 'HYBRID'), 'São Paulo', 'SP', 'sao paulo', 'sp', 4500.00, "
+                + "'Leitor de tela, rampa de acesso e intérprete de Libras' from system_range(?, ?)",
+                COMPANY_BASE, COMPANIES, VACANCY_BASE, VACANCY_BASE + VACANCIES - 1);
+        jdbc.update("insert into users (id, name, email, password, user_type, city, state) "
+                + "select x, 'Candidato ' || x, 'candidato' || x || '@perf.com', ?, 'CANDIDATE', 'Campinas', 'SP' "
+                + "from system_range(?, ?)", password, CANDIDATE_BASE, CANDIDATE_BASE + CANDIDATES - 1);
+        jdbc.update("insert into candidate (id, user_id, disability_type, skills, required_acessibility) "
+                + "select x, x, 'VISUAL', 'Java, SQL, atendimento', 'Leitor de tela' from system_range(?, ?)",
+                CANDIDATE_BASE, CANDIDATE_BASE + CANDIDATES - 1);
+        jdbc.update("insert into candidacy (id, candidate_id, vacancy_id, application_date, status) "
+                + "select ? + x, ? + mod(x, ?), ? + x / ?, current_date, 'UNDER_ANALYSIS' "
+                + "from system_range(0, ?)",
+                CANDIDATE_BASE, CANDIDATE_BASE, CANDIDATES / 2, VACANCY_BASE, APPLICANTS_PER_VACANCY,
+                VACANCIES * APPLICANTS_PER_VACANCY - 1);
+        jdbc.update("insert into vacancy_applicant_count (vacancy_id, status, applicants, revision) "
+                + "select x, s.status, casewhen(s.status = 'UNDER_ANALYSIS', ?, 0), 0 from system_range(?, ?) "
+                + "cross join (values ('UNDER_ANALYSIS'), ('APPROVED'), ('REJECTED')) s(status)",
+                APPLICANTS_PER_VACANCY, VACANCY_BASE, VACANCY_BASE + VACANCIES - 1);
+
+        vacancySearchIndex.rebuild();
+        vacancyMatcher.rebuild();
+    }
+
+    private class Session {
+
+        private final String scenario;
+        private final String token;
+
+        Session(String scenario, String token) {
+            this.scenario = scenario;
+            this.token = token;
+        }
+
+        URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+
+        HttpResponse<String> get(String endpoint, String path) throws IOException, InterruptedException {
+            return send(endpoint, HttpRequest.newBuilder(uri(path)).GET());
+        }
+
+        HttpResponse<String> send(String endpoint, HttpRequest.Builder request)
+                throws IOException, InterruptedException {
+            if (token != null)
+                request.header("Authorization", "Bearer " + token);
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            report.record(scenario, endpoint, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.fiap.acessly.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class LoadReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    record EndpointResult(String scenario, String endpoint, long requests, long errors, double throughput,
+            double p50, double p90, double p99, double p999, double max) {
+    }
+
+    record Report(Instant startedAt, String javaVersion, int availableProcessors, Map<String, Object> settings,
+            List<EndpointResult> endpoints) {
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<String, Duration> scenarioDurations = new ConcurrentHashMap<>();
+
+    private static class Endpoint {
+
+        final String scenario;
+        final String name;
+        final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+
+        Endpoint(String scenario, String name) {
+            this.scenario = scenario;
+            this.name = name;
+        }
+    }
+
+    void record(String scenario, String endpoint, long nanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(scenario + " " + endpoint, key -> new Endpoint(scenario, endpoint));
+        stats.latencies.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (!success)
+            stats.errors.increment();
+    }
+
+    void scenarioFinished(String scenario, Duration elapsed) {
+        scenarioDurations.put(scenario, elapsed);
+    }
+
+    List<EndpointResult> results() {
+        return endpoints.values().stream()
+                .map(endpoint -> {
+                    Histogram h = endpoint.latencies;
+                    double seconds = scenarioDurations.get(endpoint.scenario).toNanos() / 1_000_000_000.0;
+                    return new EndpointResult(endpoint.scenario, endpoint.name, h.getTotalCount(),
+                            endpoint.errors.sum(), h.getTotalCount() / seconds,
+                            millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                            millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)),
+                            millis(h.getMaxValue()));
+                })
+                .sorted((a, b) -> (a.scenario() + a.endpoint()).compareTo(b.scenario() + b.endpoint()))
+                .toList();
+    }
+
+    Report write(Path path, Instant startedAt, Map<String, Object> settings) throws IOException {
+        Report report = new Report(startedAt, System.getProperty("java.version"),
+                Runtime.getRuntime().availableProcessors(), settings, results());
+        Files.createDirectories(path.getParent());
+        new ObjectMapper().findAndRegisterModules().enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValue(path.toFile(), report);
+        return report;
+    }
+
+    static void print(Report report, Path baseline) throws IOException {
+        Map<String, JsonNode> previous = new LinkedHashMap<>();
+        if (baseline != null && Files.exists(baseline)) {
+            for (JsonNode endpoint : new ObjectMapper().readTree(baseline.toFile()).get("endpoints")) {
+                previous.put(endpoint.get("scenario").asText() + " " + endpoint.get("endpoint").asText(), endpoint);
+            }
+        }
+
+        System.out.printf("[perf] %-18s %-36s %8s %6s %9s %8s %8s %8s %9s%n", "scenario", "endpoint", "requests",
+                "errors", "req/s", "p50 ms", "p99 ms", "max ms", "p99 diff");
+        for (EndpointResult result : report.endpoints()) {
+            JsonNode before = previous.get(result.scenario() + " " + result.endpoint());
+            String diff = before == null ? "" : String.format("%+.0f%%",
+                    (result.p99() / before.get("p99").asDouble() - 1) * 100);
+            System.out.printf("[perf] %-18s %-36s %,8d %,6d %,9.1f %,8.1f %,8.1f %,8.1f %9s%n", result.scenario(),
+                    result.endpoint(), result.requests(), result.errors(), result.throughput(), result.p50(),
+                    result.p99(), result.max(), diff);
+        }
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
@@ -0,0 +1,189 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.companyJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkReport;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkRequest;
+import br.com.fiap.acessly.dto.CandidacyStatusOutcome;
+import br.com.fiap.acessly.dto.CandidacyStatusOutcome.Result;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.OutboxEvent;
+import br.com.fiap.acessly.model.OutboxEventType;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.OutboxEventRepository;
+
+@SpringBootTest(properties = {
+        "acessly.candidacies.bulk-status.chunk-size=2",
+        "acessly.candidacies.bulk-status.max-ids=6" })
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class CandidacyServiceBulkStatusTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private CandidacyRepository candidacyRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Long companyId;
+    private Long vacancyId;
+    private Long recent;
+    private Long old;
+    private Long older;
+    private Long approved;
+    private Long rejected;
+    private Long otherVacancy;
+    private Vacancy vacancy;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("triagem@acessly.com");
+        vacancy = testData.vacancy(company, "Desenvolvedor");
+        Vacancy other = testData.vacancy(company, "Analista");
+        companyId = company.getId();
+        vacancyId = vacancy.getId();
+
+        recent = apply(0, vacancy, 1, CandidacyStatus.UNDER_ANALYSIS);
+        old = apply(1, vacancy, 10, CandidacyStatus.UNDER_ANALYSIS);
+        older = apply(2, vacancy, 20, CandidacyStatus.UNDER_ANALYSIS);
+        approved = apply(3, vacancy, 20, CandidacyStatus.APPROVED);
+        rejected = apply(4, vacancy, 20, CandidacyStatus.REJECTED);
+        otherVacancy = apply(5, other, 20, CandidacyStatus.UNDER_ANALYSIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void reportsAnOutcomePerIdAndOnlyAppliesAllowedTransitions() {
+        CandidacyStatusBulkReport report = candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(
+                vacancyId, CandidacyStatus.APPROVED, List.of(recent, old, approved, rejected, otherVacancy, -1L),
+                null, null));
+
+        assertThat(report.requested()).isEqualTo(6);
+        assertThat(report.updated()).isEqualTo(2);
+        assertThat(report.outcomes()).extracting(CandidacyStatusOutcome::id, CandidacyStatusOutcome::result)
+                .containsExactly(
+                        tuple(recent, Result.UPDATED),
+                        tuple(old, Result.UPDATED),
+                        tuple(approved, Result.UNCHANGED),
+                        tuple(rejected, Result.INVALID_TRANSITION),
+                        tuple(otherVacancy, Result.NOT_FOUND),
+                        tuple(-1L, Result.NOT_FOUND));
+
+        assertThat(statusOf(recent)).isEqualTo(CandidacyStatus.APPROVED);
+        assertThat(statusOf(old)).isEqualTo(CandidacyStatus.APPROVED);
+        assertThat(statusOf(rejected)).isEqualTo(CandidacyStatus.REJECTED);
+        assertThat(statusOf(otherVacancy)).isEqualTo(CandidacyStatus.UNDER_ANALYSIS);
+        assertThat(outboxEventRepository.findAll())
+                .filteredOn(event -> event.getEventType() == OutboxEventType.CANDIDACY_STATUS_CHANGED)
+                .extracting(OutboxEvent::getAggregateId)
+                .containsExactlyInAnyOrder(recent, old);
+    }
+
+    @Test
+    void filterSelectsStaleApplicationsOfTheVacancy() {
+        CandidacyStatusBulkReport report = candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(
+                vacancyId, CandidacyStatus.REJECTED, null, CandidacyStatus.UNDER_ANALYSIS, 5));
+
+        assertThat(report.outcomes()).extracting(CandidacyStatusOutcome::id).containsExactly(old, older);
+        assertThat(report.updated()).isEqualTo(2);
+        assertThat(statusOf(recent)).isEqualTo(CandidacyStatus.UNDER_ANALYSIS);
+        assertThat(statusOf(older)).isEqualTo(CandidacyStatus.REJECTED);
+        assertThat(statusOf(otherVacancy)).isEqualTo(CandidacyStatus.UNDER_ANALYSIS);
+    }
+
+    @Test
+    void filterIsNotCappedByTheIdLimit() {
+        List<Long> more = LongStream.range(6, 12)
+                .mapToObj(i -> apply((int) i, vacancy, 30, CandidacyStatus.UNDER_ANALYSIS))
+                .toList();
+
+        CandidacyStatusBulkReport report = candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(
+                vacancyId, CandidacyStatus.APPROVED, null, CandidacyStatus.UNDER_ANALYSIS, null));
+
+        assertThat(report.requested()).isEqualTo(9);
+        assertThat(report.updated()).isEqualTo(9);
+        assertThat(statusOf(more.get(5))).isEqualTo(CandidacyStatus.APPROVED);
+        assertThat(statusOf(otherVacancy)).isEqualTo(CandidacyStatus.UNDER_ANALYSIS);
+
+        assertThatThrownBy(() -> candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(
+                vacancyId, CandidacyStatus.UNDER_ANALYSIS, List.of(recent, old, older, approved, rejected,
+                        more.get(0), more.get(1)), null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void singleUpdateOnlyAppliesAllowedTransitions() throws Exception {
+        assertThatThrownBy(() -> candidacyService.updateCandidacyStatus(approved, CandidacyStatus.REJECTED))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(statusOf(approved)).isEqualTo(CandidacyStatus.APPROVED);
+
+        mockMvc.perform(patch("/candidacies/" + rejected + "/status?status=APPROVED").with(companyJwt(companyId)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(patch("/candidacies/" + rejected + "/status?status=REJECTED").with(companyJwt(companyId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/candidacies/" + rejected + "/status?status=UNDER_ANALYSIS").with(companyJwt(companyId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UNDER_ANALYSIS"));
+    }
+
+    @Test
+    void endpointRequiresIdsOrAFilter() throws Exception {
+        mockMvc.perform(patch("/candidacies/status").with(companyJwt(companyId)).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vacancyId\": " + vacancyId + ", \"status\": \"APPROVED\"}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/candidacies/status").with(companyJwt(companyId)).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"vacancyId\": " + vacancyId + ", \"status\": \"UNDER_ANALYSIS\", \"ids\": ["
+                        + approved + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.outcomes[0].result").value("UPDATED"))
+                .andExpect(jsonPath("$.outcomes[0].previousStatus").value("APPROVED"));
+    }
+
+    private Long apply(int candidateNumber, Vacancy vacancy, int daysAgo, CandidacyStatus status) {
+        return testData.candidacy(
+                testData.candidate("Candidato " + candidateNumber, "triagem" + candidateNumber + "@acessly.com"),
+                vacancy, LocalDate.now().minusDays(daysAgo), status).getId();
+    }
+
+    private CandidacyStatus statusOf(Long candidacyId) {
+        return candidacyRepository.findById(candidacyId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,186 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CandidacyRequest;
+import br.com.fiap.acessly.dto.CandidacyResponse;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.Vacancy;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@Import(TestData.class)
+class CandidacyServiceStatementCountTest {
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Company company;
+    private Long vacancyId;
+    private Long candidateId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        company = testData.company("empresa@acessly.com");
+        Vacancy vacancy = testData.vacancy(company, "Desenvolvedor");
+        vacancyId = vacancy.getId();
+
+        for (int i = 0; i < 10; i++) {
+            Candidate candidate = testData.candidate("Candidato " + i, "candidato" + i + "@acessly.com");
+            testData.candidacy(candidate, vacancy, LocalDate.now(), CandidacyStatus.UNDER_ANALYSIS);
+            candidateId = candidate.getId();
+        }
+
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void filteredPageUsesOneSelectAndOneCount() {
+        Page<CandidacyResponse> page = candidacyService.getCandidaciesWithFilters(null, vacancyId,
+                CandidacyStatus.UNDER_ANALYSIS.name(), PageRequest.of(0, 5));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getContent().get(0).companyName()).isEqualTo("Acessly");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void candidaciesByVacancyUseOneStatement() {
+        List<CandidacyResponse> candidacies = candidacyService.getCandidaciesByVacancy(vacancyId);
+
+        assertThat(candidacies).hasSize(10);
+        assertThat(candidacies).allSatisfy(c -> assertThat(c.candidateName()).startsWith("Candidato"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void candidaciesByCandidateUseOneStatement() {
+        List<CandidacyResponse> candidacies = candidacyService.getCandidaciesByCandidate(candidateId);
+
+        assertThat(candidacies).hasSize(1);
+        assertThat(candidacies.get(0).vacancyTitle()).isEqualTo("Desenvolvedor");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exportStreamsCandidaciesWithOneStatement() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = candidacyService.exportCandidaciesByVacancy(vacancyId, MediaType.parseMediaType("text/csv"),
+                out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(10);
+        assertThat(lines).hasSize(11);
+        assertThat(lines.get(0)).isEqualTo(
+                "id,candidateId,candidateName,vacancyId,vacancyTitle,companyName,applicationDate,status");
+        assertThat(lines.get(1)).contains("Desenvolvedor,Acessly," + LocalDate.now() + ",UNDER_ANALYSIS");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submissionIsOneInsertWithoutPreChecks() {
+        for (String warmUp : List.of("Analista", "Suporte")) {
+            candidacyService.createCandidacy(
+                    new CandidacyRequest(candidateId, newVacancy(warmUp), LocalDate.now(), null));
+        }
+        Long designer = newVacancy("Designer");
+        statistics.clear();
+
+        CandidacyResponse response = candidacyService.createCandidacy(
+                new CandidacyRequest(candidateId, designer, LocalDate.now(), null));
+
+        assertThat(response.vacancyTitle()).isEqualTo("Designer");
+        assertThat(response.candidateName()).isEqualTo("Candidato 9");
+        assertThat(response.companyName()).isEqualTo("Acessly");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void duplicateSubmissionIsRejectedByTheUniqueConstraint() {
+        assertThatThrownBy(() -> candidacyService.createCandidacy(
+                new CandidacyRequest(candidateId, vacancyId, LocalDate.now(), null)))
+                .hasMessage("Candidate already applied to this vacancy");
+        assertThatThrownBy(() -> candidacyService.createCandidacy(
+                new CandidacyRequest(candidateId, vacancyId + 1000, LocalDate.now(), null)))
+                .hasMessage("Candidate or vacancy not found");
+    }
+
+    @Test
+    void concurrentSubmissionsCreateOneCandidacy() throws Exception {
+        Long vacancy = newVacancy("Feira de empregos");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    candidacyService.createCandidacy(new CandidacyRequest(candidateId, vacancy, LocalDate.now(), null));
+                    return true;
+                } catch (RuntimeException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        for (Future<Boolean> attempt : attempts) {
+            created += attempt.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(1);
+        assertThat(candidacyService.getCandidaciesByCandidate(candidateId))
+                .filteredOn(candidacy -> candidacy.vacancyId().equals(vacancy)).hasSize(1);
+    }
+
+    private Long newVacancy(String title) {
+        return testData.vacancy(company, title).getId();
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "acessly.candidacy-events.sender-threads=1",
+        "acessly.candidacy-events.send-queue-capacity=1" })
+@AutoConfigureMockMvc
+class CandidacyStatusNotifierCapacityTest {
+
+    private static final int STREAMS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidacyStatusNotifier notifier;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void heartbeatReachesMoreStreamsThanTheSendQueueHolds() throws Exception {
+        List<MockHttpServletResponse> streams = new ArrayList<>();
+        for (long candidateId = 1; candidateId <= STREAMS; candidateId++) {
+            long id = candidateId;
+            streams.add(mockMvc.perform(get("/candidacies/events")
+                    .with(jwt().jwt(token -> token.claim("candidateId", id))
+                            .authorities(new SimpleGrantedAuthority("ROLE_CANDIDATE"))))
+                    .andExpect(request().asyncStarted())
+                    .andReturn().getResponse());
+        }
+
+        notifier.heartbeat();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (streams.stream().anyMatch(stream -> !heartbeatReached(stream)) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(streams).allMatch(CandidacyStatusNotifierCapacityTest::heartbeatReached);
+        assertThat(meterRegistry.get("candidacy.events.connections").gauge().value()).isEqualTo(STREAMS);
+    }
+
+    private static boolean heartbeatReached(MockHttpServletResponse stream) {
+        try {
+            return stream.getContentAsString().contains(":heartbeat");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
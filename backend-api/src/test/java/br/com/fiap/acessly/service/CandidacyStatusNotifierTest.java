@@ -0,0 +1,143 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Vacancy;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class CandidacyStatusNotifierTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)\\nevent:candidacy-status");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private CandidacyStatusNotifier notifier;
+
+    @Autowired
+    private TestData testData;
+
+    private Long candidateId;
+    private Long otherCandidateId;
+    private Long candidacyId;
+
+    @BeforeEach
+    void setUp() {
+        Vacancy vacancy = testData.vacancy(testData.company("eventos@acessly.com"), "Desenvolvedor");
+        Candidate candidate = testData.candidate("Candidato", "ana@acessly.com");
+        candidateId = candidate.getId();
+        otherCandidateId = testData.candidate("Candidato", "bruno@acessly.com").getId();
+        candidacyId = testData.candidacy(candidate, vacancy, LocalDate.now(), CandidacyStatus.UNDER_ANALYSIS).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void pushesStatusChangesOnlyToTheCandidate() throws Exception {
+        MockHttpServletResponse stream = subscribe(candidateId, null);
+        MockHttpServletResponse otherStream = subscribe(otherCandidateId, null);
+
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+
+        assertThat(awaitContent(stream, "event:candidacy-status"))
+                .contains("event:candidacy-status")
+                .contains("\"id\":" + candidacyId)
+                .contains("\"status\":\"APPROVED\"")
+                .contains("\"previousStatus\":\"UNDER_ANALYSIS\"");
+        assertThat(stream.getContentType()).startsWith("text/event-stream");
+        assertThat(EVENT_ID.matcher(stream.getContentAsString()).results()).hasSize(1);
+        assertThat(otherStream.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void replaysEventsAfterLastEventId() throws Exception {
+        MockHttpServletResponse first = subscribe(candidateId, null);
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+        long lastEventId = lastEventId(awaitContent(first, "event:candidacy-status"));
+
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.UNDER_ANALYSIS);
+        MockHttpServletResponse resumed = subscribe(candidateId, lastEventId);
+
+        assertThat(awaitContent(resumed, "event:candidacy-status"))
+                .contains("id:" + (lastEventId + 1))
+                .contains("\"status\":\"UNDER_ANALYSIS\"")
+                .doesNotContain("\"status\":\"APPROVED\"")
+                .doesNotContain("event:resync");
+    }
+
+    @Test
+    void asksForResyncWhenEventsAreNoLongerAvailable() throws Exception {
+        MockHttpServletResponse resumed = subscribe(candidateId, 1L);
+
+        assertThat(awaitContent(resumed, "event:resync")).contains("event:resync");
+    }
+
+    @Test
+    void heartbeatsKeepIdleStreamsAlive() throws Exception {
+        MockHttpServletResponse stream = subscribe(candidateId, null);
+        notifier.heartbeat();
+
+        assertThat(awaitContent(stream, ":heartbeat")).contains(":heartbeat");
+    }
+
+    private MockHttpServletResponse subscribe(Long candidate, Long lastEventId) throws Exception {
+        var subscription = get("/candidacies/events")
+                .with(jwt().jwt(token -> token.claim("candidateId", candidate))
+                        .authorities(new SimpleGrantedAuthority("ROLE_CANDIDATE")));
+        if (lastEventId != null) {
+            subscription.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(subscription)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!response.getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        return response.getContentAsString();
+    }
+
+    private static long lastEventId(String content) {
+        Matcher matcher = EVENT_ID.matcher(content);
+        long id = -1;
+        while (matcher.find()) {
+            id = Long.parseLong(matcher.group(1));
+        }
+        return id;
+    }
+}
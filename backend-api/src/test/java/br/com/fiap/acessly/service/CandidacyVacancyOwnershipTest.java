@@ -0,0 +1,95 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.companyJwt;
+import static br.com.fiap.acessly.TestData.companyUserJwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.Vacancy;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class CandidacyVacancyOwnershipTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    private Long companyId;
+    private Long otherCompanyId;
+    private Long vacancyId;
+    private Long candidacyId;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("dona@acessly.com");
+        companyId = company.getId();
+        otherCompanyId = testData.company("outra@acessly.com").getId();
+
+        Vacancy vacancy = testData.vacancy(company, "Desenvolvedor");
+        vacancyId = vacancy.getId();
+        candidacyId = testData.candidacy(testData.candidate("Ana", "ana.dona@acessly.com"), vacancy,
+                LocalDate.now(), CandidacyStatus.UNDER_ANALYSIS).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void exportIsRestrictedToTheCompanyThatOwnsTheVacancy() throws Exception {
+        String export = "/candidacies/vacancy/" + vacancyId + "/export?format=csv";
+
+        mockMvc.perform(get(export).with(companyJwt(otherCompanyId)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get(export).with(companyUserJwt("outra@acessly.com")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/candidacies/vacancy/" + (vacancyId + 1000) + "/export").with(companyJwt(companyId)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get(export).with(companyJwt(companyId)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(export).with(companyUserJwt("dona@acessly.com")))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"));
+    }
+
+    @Test
+    void bulkStatusUpdateIsRestrictedToTheCompanyThatOwnsTheVacancy() throws Exception {
+        String body = "{\"vacancyId\": " + vacancyId + ", \"status\": \"APPROVED\", \"ids\": [" + candidacyId + "]}";
+
+        mockMvc.perform(patch("/candidacies/status").with(companyJwt(otherCompanyId))
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/candidacies/status").with(companyUserJwt("outra@acessly.com"))
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(patch("/candidacies/status").with(companyUserJwt("dona@acessly.com"))
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1));
+    }
+}
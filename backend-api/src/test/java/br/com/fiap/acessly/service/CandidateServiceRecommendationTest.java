@@ -0,0 +1,101 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CandidateRequest;
+import br.com.fiap.acessly.dto.VacancyRecommendation;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.model.DisabilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.VacancyType;
+
+@SpringBootTest
+@Import(TestData.class)
+class CandidateServiceRecommendationTest {
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestData testData;
+
+    private User candidateUser;
+    private Long candidateId;
+    private Long screenReaderJob;
+    private Long rampJob;
+    private Long recifeJob;
+
+    @BeforeEach
+    void setUp() {
+        Long companyId = testData.company("recomendacao@acessly.com").getId();
+
+        candidateUser = testData.user(testData.userOf("Ana", "ana@acessly.com", UserRole.CANDIDATE)
+                .city("São Paulo").state("SP"));
+        candidateId = candidateService.createCandidate(new CandidateRequest(candidateUser.getId(),
+                DisabilityType.VISUAL, "Java, Spring Boot, SQL", "Backend", "Leitor de tela NVDA")).id();
+
+        screenReaderJob = vacancyService.createVacancy(new VacancyRequest(companyId, "Desenvolvedor Java",
+                "APIs com Spring Boot e SQL", VacancyType.IN_PERSON, "Sao Paulo", "SP", null,
+                "Computadores com leitor de tela NVDA")).id();
+        rampJob = vacancyService.createVacancy(new VacancyRequest(companyId, "Desenvolvedor Java",
+                "APIs com Spring Boot e SQL", VacancyType.IN_PERSON, "São Paulo", "SP", null,
+                "Rampa de acesso")).id();
+        recifeJob = vacancyService.createVacancy(new VacancyRequest(companyId, "Designer gráfico",
+                "Identidade visual", VacancyType.IN_PERSON, "Recife", "PE", null, "Leitor de tela")).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void ranksAccessibleSkillAndLocationMatchFirst() {
+        List<VacancyRecommendation> recommendations = candidateService.recommendVacancies(candidateId, 20)
+                .orElseThrow();
+
+        assertThat(recommendations).extracting(r -> r.vacancy().id())
+                .containsExactly(screenReaderJob, rampJob, recifeJob);
+        assertThat(recommendations.get(0).accessibilityScore()).isGreaterThan(recommendations.get(1)
+                .accessibilityScore());
+        assertThat(recommendations.get(0).locationScore()).isEqualTo(1.0);
+        assertThat(recommendations.get(2).locationScore()).isZero();
+    }
+
+    @Test
+    void locationFollowsUserUpdates() {
+        candidateUser.setCity("Recife");
+        candidateUser.setState("PE");
+        userService.updateUser(candidateUser.getId(), candidateUser);
+
+        List<VacancyRecommendation> recommendations = candidateService.recommendVacancies(candidateId, 20)
+                .orElseThrow();
+
+        assertThat(recommendations).filteredOn(r -> r.vacancy().id().equals(recifeJob)).singleElement()
+                .satisfies(r -> assertThat(r.locationScore()).isEqualTo(1.0));
+        assertThat(recommendations).filteredOn(r -> r.vacancy().id().equals(screenReaderJob)).singleElement()
+                .satisfies(r -> assertThat(r.locationScore()).isZero());
+    }
+
+    @Test
+    void unknownCandidateHasNoRecommendations() {
+        assertThat(candidateService.recommendVacancies(-1L, 20)).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CompanyRequest;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.VacancyRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@Import(TestData.class)
+class CompanyServiceCacheTest {
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private VacancyRepository vacancyRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Long companyId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = testData.user("Empresa", "cache@acessly.com", UserRole.COMPANY);
+        companyId = testData.company(testData.companyOf(user)).getId();
+
+        for (int i = 0; i < 3; i++) {
+            vacancyService.createVacancy(new VacancyRequest(companyId, "Vaga " + i, null, VacancyType.REMOTE,
+                    null, null, null, "Rampa"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void vacancyReadsDoNotTouchCompanyTable() {
+        statistics.clear();
+
+        assertThat(vacancyService.getVacancies(PageRequest.of(0, 10)).getContent())
+                .extracting(VacancyResponse::companyName)
+                .containsOnly("Acessly");
+
+        assertThat(statistics.getEntityStatistics(Company.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(cacheStats().hitCount()).isPositive();
+    }
+
+    @Test
+    void updateAndDeleteEvictCachedCompany() {
+        companyService.getCompanyById(companyId);
+        companyService.updateCompany(companyId, new CompanyRequest(user.getId(), "Acessly Tech", "Tecnologia",
+                AcessibilityType.HIGH, null, null));
+
+        assertThat(companyService.getCompanyById(companyId)).hasValueSatisfying(
+                company -> assertThat(company.name()).isEqualTo("Acessly Tech"));
+        assertThat(vacancyService.getVacancies(PageRequest.of(0, 10)).getContent())
+                .extracting(VacancyResponse::companyName)
+                .containsOnly("Acessly Tech");
+
+        vacancyRepository.findAll().forEach(vacancy -> vacancyService.deleteVacancy(vacancy.getId()));
+        companyService.deleteCompany(companyId);
+
+        assertThat(companyService.getCompanyById(companyId)).isEmpty();
+        assertThat(companyService.getCompanyName(companyId)).isNull();
+    }
+
+    private CacheStats cacheStats() {
+        return ((CaffeineCache) cacheManager.getCache(CompanyService.COMPANY_NAMES_CACHE)).getNativeCache().stats();
+    }
+}
@@ -0,0 +1,168 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.companyJwt;
+import static br.com.fiap.acessly.TestData.companyUserJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.config.SqlStatements;
+import br.com.fiap.acessly.dto.CandidacyRequest;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkRequest;
+import br.com.fiap.acessly.dto.HiringFunnelDay;
+import br.com.fiap.acessly.dto.HiringFunnelReport;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Company;
+
+@SpringBootTest(properties = "acessly.outbox.batch-size=1")
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class HiringFunnelRollupTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    private Long companyId;
+    private Long vacancyId;
+    private List<Long> candidateIds;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("funil@acessly.com");
+        companyId = company.getId();
+        vacancyId = testData.vacancy(company, "Desenvolvedor").getId();
+        candidateIds = testData.candidateIds("funil", 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void rollupsFollowApplicationsDecisionsReversalsAndDeletions() {
+        Long first = apply(0, TODAY.minusDays(10));
+        Long second = apply(1, TODAY.minusDays(10));
+        Long third = apply(2, TODAY.minusDays(4));
+        apply(3, TODAY);
+
+        candidacyService.updateCandidacyStatus(first, CandidacyStatus.APPROVED);
+        candidacyService.updateCandidacyStatus(second, CandidacyStatus.REJECTED);
+        candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(vacancyId, CandidacyStatus.APPROVED,
+                List.of(third), null, null));
+
+        HiringFunnelReport report = report();
+        assertThat(report.applications()).isEqualTo(4);
+        assertThat(report.approvals()).isEqualTo(2);
+        assertThat(report.rejections()).isEqualTo(1);
+        assertThat(report.medianDaysToDecision()).isEqualTo(10.0);
+        assertThat(report.days()).hasSize(11);
+        assertThat(report.days().get(0)).isEqualTo(new HiringFunnelDay(TODAY.minusDays(10), 2, 0, 0, null));
+        assertThat(report.days().get(10)).isEqualTo(new HiringFunnelDay(TODAY, 1, 2, 1, 10.0));
+
+        candidacyService.updateCandidacyStatus(first, CandidacyStatus.UNDER_ANALYSIS);
+        assertThat(report().approvals()).isEqualTo(1);
+        assertThat(report().medianDaysToDecision()).isEqualTo(7.0);
+
+        candidacyService.deleteCandidacy(second);
+        report = report();
+        assertThat(report.applications()).isEqualTo(3);
+        assertThat(report.rejections()).isZero();
+        assertThat(report.medianDaysToDecision()).isEqualTo(4.0);
+    }
+
+    @Test
+    void concurrentFirstApplicationsOfTheDayShareOneRollupRow() throws Exception {
+        for (int i = 0; i < candidateIds.size(); i++) {
+            apply(i, TODAY);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(candidateIds.size());
+        try {
+            List<Callable<Integer>> dispatchers = new ArrayList<>();
+            for (int i = 0; i < candidateIds.size(); i++) {
+                dispatchers.add(outboxDispatcher::dispatchBatch);
+            }
+            for (var dispatcher : executor.invokeAll(dispatchers)) {
+                dispatcher.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(report().applications()).isEqualTo(candidateIds.size());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from hiring_daily_rollup where vacancy_id = ?",
+                Long.class, vacancyId)).isEqualTo(1);
+    }
+
+    @Test
+    void endpointReadsOnlyTheRollups() throws Exception {
+        apply(0, TODAY.minusDays(2));
+        outboxDispatcher.dispatchPending();
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/funnel?from=" + TODAY.minusDays(6) + "&to="
+                + TODAY).with(companyJwt(companyId)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(2))
+                .andExpect(jsonPath("$.applications").value(1))
+                .andExpect(jsonPath("$.days.length()").value(7))
+                .andExpect(jsonPath("$.days[4].applications").value(1));
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/funnel?from=" + TODAY + "&to="
+                + TODAY.minusDays(1)).with(companyJwt(companyId)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/funnel")
+                .with(companyUserJwt("funil@acessly.com")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/funnel")
+                .with(companyJwt(companyId + 1)))
+                .andExpect(status().isForbidden());
+    }
+
+    private HiringFunnelReport report() {
+        outboxDispatcher.dispatchPending();
+        return vacancyService.getHiringFunnel(companyId, vacancyId, TODAY.minusDays(10), TODAY);
+    }
+
+    private Long apply(int candidate, LocalDate applicationDate) {
+        return candidacyService.createCandidacy(
+                new CandidacyRequest(candidateIds.get(candidate), vacancyId, applicationDate, null)).id();
+    }
+}
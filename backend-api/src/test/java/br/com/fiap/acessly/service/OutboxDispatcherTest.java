@@ -0,0 +1,212 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CandidacyRequest;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.OutboxEvent;
+import br.com.fiap.acessly.model.OutboxEventType;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.OutboxEventRepository;
+
+@SpringBootTest
+@Import(TestData.class)
+class OutboxDispatcherTest {
+
+    @TestConfiguration
+    static class RecordingConsumerConfig {
+
+        @Bean
+        RecordingConsumer recordingConsumer(JdbcTemplate jdbcTemplate) {
+            return new RecordingConsumer(jdbcTemplate);
+        }
+    }
+
+    static class RecordingConsumer implements OutboxEventConsumer {
+
+        private final List<OutboxEvent> received = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final JdbcTemplate jdbcTemplate;
+
+        RecordingConsumer(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @Override
+        public Set<OutboxEventType> eventTypes() {
+            return Set.of(OutboxEventType.values());
+        }
+
+        @Override
+        public void accept(OutboxEvent event) {
+            if (failing.get()) {
+                jdbcTemplate.update("update hiring_daily_rollup set applications = applications + 100");
+                throw new IllegalStateException("consumer unavailable");
+            }
+            received.add(event);
+        }
+    }
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private RecordingConsumer consumer;
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestData testData;
+
+    private Long companyId;
+    private Long candidateId;
+    private Long vacancyId;
+
+    @BeforeEach
+    void setUp() {
+        companyId = testData.company("outbox@acessly.com").getId();
+        vacancyId = vacancyService.createVacancy(new VacancyRequest(companyId, "Desenvolvedor", "APIs",
+                VacancyType.REMOTE, "São Paulo", "SP", null, "Leitor de tela")).id();
+        candidateId = testData.candidate("Ana", "ana.outbox@acessly.com").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+        consumer.received.clear();
+        consumer.failing.set(false);
+    }
+
+    @Test
+    void deliversEventsWrittenWithTheStateChangeInOrder() {
+        Long candidacyId = candidacyService.createCandidacy(
+                new CandidacyRequest(candidateId, vacancyId, LocalDate.now(), null)).id();
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+        vacancyService.updateVacancy(vacancyId, new VacancyRequest(companyId, "Desenvolvedora", "APIs",
+                VacancyType.REMOTE, "São Paulo", "SP", null, "Leitor de tela"));
+
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isEqualTo(3);
+        assertThat(outboxDispatcher.dispatchBatch()).isEqualTo(3);
+
+        assertThat(consumer.received).extracting(OutboxEvent::getEventType).containsExactly(
+                OutboxEventType.CANDIDACY_CREATED,
+                OutboxEventType.CANDIDACY_STATUS_CHANGED,
+                OutboxEventType.VACANCY_UPDATED);
+        assertThat(consumer.received.get(1).getAggregateId()).isEqualTo(candidacyId);
+        assertThat(consumer.received.get(1).getPayload())
+                .contains("\"previousStatus\":\"UNDER_ANALYSIS\"")
+                .contains("\"status\":\"APPROVED\"");
+        assertThat(consumer.received.get(2).getPayload()).contains("\"title\":\"Desenvolvedora\"");
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isZero();
+        assertThat(outboxDispatcher.dispatchBatch()).isZero();
+    }
+
+    @Test
+    void failedDeliveriesStayPendingAndAreRetried() {
+        vacancyService.deleteVacancy(vacancyId);
+        consumer.failing.set(true);
+
+        outboxDispatcher.dispatchBatch();
+
+        OutboxEvent pending = outboxEventRepository.findAll().get(0);
+        assertThat(pending.getProcessedAt()).isNull();
+        assertThat(pending.getAttempts()).isEqualTo(1);
+        assertThat(pending.getLastError()).contains("consumer unavailable");
+        assertThat(pending.getNextAttemptAt()).isAfter(Instant.now());
+
+        consumer.failing.set(false);
+        assertThat(outboxDispatcher.dispatchBatch()).isZero();
+
+        pending.setNextAttemptAt(Instant.now().minusSeconds(1));
+        outboxEventRepository.save(pending);
+        outboxDispatcher.dispatchBatch();
+
+        assertThat(consumer.received).singleElement()
+                .satisfies(event -> assertThat(event.getEventType()).isEqualTo(OutboxEventType.VACANCY_DELETED));
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isZero();
+    }
+
+    @Test
+    void failedDeliveriesLeaveNoPartialWritesBehind() {
+        jdbcTemplate.update("insert into hiring_daily_rollup (vacancy_id, rollup_date, applications) values (?, ?, 0)",
+                vacancyId, LocalDate.now());
+        candidacyService.createCandidacy(new CandidacyRequest(candidateId, vacancyId, LocalDate.now(), null));
+        consumer.failing.set(true);
+
+        outboxDispatcher.dispatchBatch();
+        assertThat(applications()).isZero();
+
+        consumer.failing.set(false);
+        OutboxEvent pending = outboxEventRepository.findAll().get(0);
+        pending.setNextAttemptAt(null);
+        outboxEventRepository.save(pending);
+        outboxDispatcher.dispatchBatch();
+
+        assertThat(applications()).isEqualTo(1);
+        assertThat(outboxEventRepository.countByProcessedAtIsNull()).isZero();
+    }
+
+    @Test
+    void retriesBackOffExponentially() {
+        vacancyService.deleteVacancy(vacancyId);
+        consumer.failing.set(true);
+
+        Instant before = Instant.now();
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            OutboxEvent pending = outboxEventRepository.findAll().get(0);
+            pending.setNextAttemptAt(null);
+            outboxEventRepository.save(pending);
+            outboxDispatcher.dispatchBatch();
+        }
+
+        OutboxEvent pending = outboxEventRepository.findAll().get(0);
+        assertThat(pending.getAttempts()).isEqualTo(3);
+        assertThat(pending.getNextAttemptAt()).isBetween(before.plusSeconds(20), Instant.now().plusSeconds(20));
+    }
+
+    @Test
+    void appendRequiresTheCallersTransaction() {
+        assertThatThrownBy(() -> domainEventOutbox.append(OutboxEventType.VACANCY_DELETED, vacancyId, null))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    private long applications() {
+        return jdbcTemplate.queryForObject("select applications from hiring_daily_rollup where vacancy_id = ?",
+                Long.class, vacancyId);
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.candidateJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.model.Company;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class ScrollCursorTest {
+
+    private static final String SCROLL = "/vacancies/scroll?city=Manaus&size=2";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestData testData;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("cursor@acessly.com");
+        for (String title : List.of("Designer", "Analista", "Engenheiro", "Analista", "Consultor")) {
+            ids.add(testData.vacancy(testData.vacancyOf(company, title).city("Manaus")).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void scrollsForwardUntilTheLastPage() throws Exception {
+        JsonNode first = page(SCROLL);
+        JsonNode second = page(SCROLL + "&cursor=" + first.get("nextCursor").asText());
+        JsonNode last = page(SCROLL + "&cursor=" + second.get("nextCursor").asText());
+
+        assertThat(idsOf(first, second, last)).isEqualTo(ids);
+        assertThat(first.get("hasNext").asBoolean()).isTrue();
+        assertThat(last.get("content")).hasSize(1);
+        assertThat(last.get("hasNext").asBoolean()).isFalse();
+        assertThat(last.get("nextCursor").isNull()).isTrue();
+    }
+
+    @Test
+    void scrollsADescendingSortWithTies() throws Exception {
+        String url = SCROLL + "&sort=title,desc&sort=id,desc";
+        JsonNode first = page(url);
+        JsonNode second = page(url + "&cursor=" + first.get("nextCursor").asText());
+        JsonNode last = page(url + "&cursor=" + second.get("nextCursor").asText());
+
+        assertThat(idsOf(first, second, last))
+                .containsExactly(ids.get(2), ids.get(0), ids.get(4), ids.get(3), ids.get(1));
+        assertThat(last.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    void cursorFromAnotherSortIsABadRequest() throws Exception {
+        String cursor = page(SCROLL + "&sort=title").get("nextCursor").asText();
+
+        scroll(SCROLL + "&sort=title&cursor=" + cursor).andExpect(status().isOk());
+        scroll(SCROLL + "&sort=title,desc&cursor=" + cursor).andExpect(status().isBadRequest());
+        scroll(SCROLL + "&cursor=" + cursor).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void tamperedCursorIsABadRequest() throws Exception {
+        String cursor = page(SCROLL).get("nextCursor").asText();
+        JsonNode decoded = objectMapper.readTree(Base64.getUrlDecoder().decode(cursor));
+        ObjectNode keys = (ObjectNode) decoded.get("keys");
+
+        keys.put("id", "not-a-number");
+        scroll(SCROLL + "&cursor=" + encode(decoded.toString())).andExpect(status().isBadRequest());
+
+        keys.remove("id");
+        scroll(SCROLL + "&cursor=" + encode(decoded.toString())).andExpect(status().isBadRequest());
+
+        scroll(SCROLL + "&cursor=" + encode("{\"sort\":[\"id,ASC\"],\"keys\":{\"id\":1,\"salary\":10}}"))
+                .andExpect(status().isBadRequest());
+        scroll(SCROLL + "&cursor=" + encode("[1,2]")).andExpect(status().isBadRequest());
+        scroll(SCROLL + "&cursor=!!!").andExpect(status().isBadRequest());
+    }
+
+    private JsonNode page(String url) throws Exception {
+        String body = scroll(url).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private ResultActions scroll(String url) throws Exception {
+        return mockMvc.perform(get(url).with(candidateJwt()));
+    }
+
+    private static List<Long> idsOf(JsonNode... pages) {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode page : pages) {
+            page.get("content").forEach(vacancy -> ids.add(vacancy.get("id").asLong()));
+        }
+        return ids;
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,199 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.candidateJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.config.SqlStatements;
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Candidate;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class SparseFieldQueryTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private VacancySearchIndex vacancySearchIndex;
+
+    @Autowired
+    private TestData testData;
+
+    private final List<Long> vacancyIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company(testData.companyOf(
+                testData.user("Empresa", "campos@acessly.com", UserRole.COMPANY)).description("Empresa inclusiva"));
+        Candidate candidate = testData.candidate(testData.candidateOf(
+                testData.user("Maria", "campos-candidata@acessly.com", UserRole.CANDIDATE)).skills("Java, SQL"));
+
+        for (int i = 0; i < 5; i++) {
+            Vacancy vacancy = testData.vacancy(testData.vacancyOf(company, "Desenvolvedor Java " + i)
+                    .description("Descrição longa " + i).city("São Paulo"));
+            vacancySearchIndex.index(vacancy);
+            vacancyIds.add(vacancy.getId());
+            testData.candidacy(candidate, vacancy, LocalDate.now(), CandidacyStatus.UNDER_ANALYSIS);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void vacancyListReturnsOnlyTheRequestedFields() throws Exception {
+        JsonNode page = read("/vacancies?fields=title,companyName,city&size=2&sort=id", 2);
+
+        assertThat(page.get("content")).hasSize(2);
+        JsonNode first = page.get("content").get(0);
+        assertThat(fieldNames(first)).containsExactly("id", "companyName", "title", "city");
+        assertThat(first.get("companyName").asText()).isEqualTo("Acessly");
+        assertThat(first.get("title").asText()).isEqualTo("Desenvolvedor Java 0");
+        assertThat(page.get("totalElements").asLong()).isEqualTo(5);
+    }
+
+    @Test
+    void rankedSearchKeepsTheSearchOrder() throws Exception {
+        List<Long> ranked = vacancyService.getVacanciesWithFilters("java", null, null, null, null, PageRequest.of(0, 3))
+                .map(VacancyResponse::id).getContent();
+        JsonNode sparse = read("/vacancies?title=java&size=3&fields=title", 1);
+
+        assertThat(fieldNames(sparse.get("content").get(0))).containsExactly("id", "title");
+        List<Long> ids = new ArrayList<>();
+        sparse.get("content").forEach(vacancy -> ids.add(vacancy.get("id").asLong()));
+        assertThat(ids).isNotEmpty().isEqualTo(ranked);
+    }
+
+    @Test
+    void rankedSearchFollowsAnExplicitSort() throws Exception {
+        JsonNode page = read("/vacancies?title=java&size=2&sort=id,desc&fields=title", 2);
+
+        assertThat(page.get("content").get(0).get("id").asLong()).isEqualTo(vacancyIds.get(4));
+        assertThat(page.get("content").get(1).get("id").asLong()).isEqualTo(vacancyIds.get(3));
+        assertThat(page.get("totalElements").asLong()).isEqualTo(5);
+
+        List<Long> ids = vacancyService.getVacanciesWithFilters("java", null, null, null, null,
+                PageRequest.of(0, 5, Sort.by("id"))).map(VacancyResponse::id).getContent();
+        assertThat(ids).isEqualTo(vacancyIds);
+    }
+
+    @Test
+    void sortedSearchOnlySortsTheBestMatches() throws Exception {
+        List<Long> moreRelevant = new ArrayList<>();
+        for (long id = 1; id <= VacancyService.MAX_SORTED_MATCHES; id++) {
+            moreRelevant.add(-id);
+            vacancySearchIndex.index(-id, "Java", null, null, VacancyType.REMOTE, null, null);
+        }
+        try {
+            assertThat(read("/vacancies?title=java&size=2&fields=title", 1).get("totalElements").asLong())
+                    .isEqualTo(VacancyService.MAX_SORTED_MATCHES + vacancyIds.size());
+            assertThat(read("/vacancies?title=java&size=2&sort=id&fields=title", 1).get("totalElements").asLong())
+                    .isZero();
+        } finally {
+            moreRelevant.forEach(vacancySearchIndex::remove);
+        }
+    }
+
+    @Test
+    void stopWordsOnlyFallBackToTheFilterQuery() throws Exception {
+        JsonNode page = read("/vacancies?title=de&size=2&sort=id&fields=title", 2);
+
+        assertThat(page.get("totalElements").asLong()).isEqualTo(5);
+        assertThat(page.get("content").get(0).get("id").asLong()).isEqualTo(vacancyIds.get(0));
+        assertThat(vacancyService.getVacanciesWithFilters(null, null, null, null, "de tela", PageRequest.of(0, 5))
+                .getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void unknownVacancyTypeIsABadRequest() throws Exception {
+        for (String url : List.of("/vacancies?vacancyType=ANYWHERE", "/vacancies?title=java&vacancyType=ANYWHERE",
+                "/vacancies/scroll?vacancyType=ANYWHERE")) {
+            mockMvc.perform(get(url).with(candidateJwt()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void scrollWithFieldsFollowsTheCursor() throws Exception {
+        JsonNode first = read("/vacancies/scroll?fields=title&size=3", 1);
+        assertThat(first.get("content")).hasSize(3);
+        assertThat(first.get("hasNext").asBoolean()).isTrue();
+
+        JsonNode second = read("/vacancies/scroll?fields=title&size=3&cursor=" + first.get("nextCursor").asText(), 1);
+        assertThat(second.get("content")).hasSize(2);
+        assertThat(second.get("hasNext").asBoolean()).isFalse();
+        assertThat(second.get("content").get(0).get("id").asLong()).isEqualTo(vacancyIds.get(3));
+        assertThat(fieldNames(second.get("content").get(0))).containsExactly("id", "title");
+    }
+
+    @Test
+    void otherListsAcceptFields() throws Exception {
+        assertThat(fieldNames(read("/candidates?fields=disabilityType", 1).get("content").get(0)))
+                .containsExactly("id", "disabilityType");
+        assertThat(fieldNames(read("/companies?fields=name,userId", 1).get("content").get(0)))
+                .containsExactly("id", "name", "userId");
+
+        JsonNode candidacy = read("/candidacies?fields=vacancyTitle,companyName,status&size=10", 1)
+                .get("content").get(0);
+        assertThat(fieldNames(candidacy)).containsExactly("id", "vacancyTitle", "companyName", "status");
+        assertThat(candidacy.get("status").asText()).isEqualTo("UNDER_ANALYSIS");
+    }
+
+    @Test
+    void unknownFieldIsABadRequest() throws Exception {
+        mockMvc.perform(get("/vacancies?fields=title,password").with(candidateJwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode read(String url, int statements) throws Exception {
+        String body = mockMvc.perform(get(url).with(jwt().authorities(new SimpleGrantedAuthority("ROLE_COMPANY"))))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(statements))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.candidateJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.config.SqlStatements;
+import br.com.fiap.acessly.dto.CompanyRequest;
+import br.com.fiap.acessly.dto.SuggestionResponse;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.AcessibilityType;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.UserRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class TypeaheadIndexTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long companyId;
+    private Long nursing;
+
+    @BeforeEach
+    void setUp() {
+        companyId = company("typeahead@acessly.com", "Ótica Visão Clara", "Saúde ocular");
+        company("typeahead-2@acessly.com", "Oftalmo Centro", "Saúde ocular");
+
+        vacancy("Técnico em Órteses");
+        vacancy("Técnico em Órteses");
+        nursing = vacancy("Técnico de Enfermagem");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void completesTitlesByPopularityWithoutTouchingTheDatabase() throws Exception {
+        assertThat(suggest("tecn")).extracting("text", "type", "weight").containsExactly(
+                tuple("Técnico em Órteses", SuggestionResponse.Type.VACANCY_TITLE, 2),
+                tuple("Técnico de Enfermagem", SuggestionResponse.Type.VACANCY_TITLE, 1));
+    }
+
+    @Test
+    void matchesAnyWordOfTheSuggestionWithoutAccents() throws Exception {
+        assertThat(suggest("ORTE")).extracting("text").containsExactly("Técnico em Órteses");
+        assertThat(suggest("visao cl")).extracting("text").containsExactly("Ótica Visão Clara");
+        assertThat(suggest("saude")).extracting("text", "type", "weight")
+                .containsExactly(tuple("Saúde ocular", SuggestionResponse.Type.SECTOR, 2));
+        assertThat(suggest("xyz")).isEmpty();
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() throws Exception {
+        vacancyService.updateVacancy(nursing, new VacancyRequest(companyId, "Técnico em Órteses", null,
+                VacancyType.REMOTE, null, null, null, "Leitor de tela"));
+        assertThat(suggest("tecnico")).extracting("text", "weight")
+                .containsExactly(tuple("Técnico em Órteses", 3));
+
+        companyService.updateCompany(companyId, new CompanyRequest(userRepository
+                .findByEmail("typeahead@acessly.com").orElseThrow().getId(), "Ótica Nova Visão", "Varejo",
+                AcessibilityType.HIGH, null, null));
+        assertThat(suggest("clara")).isEmpty();
+        assertThat(suggest("nova")).extracting("text").containsExactly("Ótica Nova Visão");
+        assertThat(suggest("saude")).extracting("weight").containsExactly(1);
+
+        vacancyService.deleteVacancy(nursing);
+        assertThat(suggest("tecnico")).extracting("weight").containsExactly(2);
+    }
+
+    @Test
+    void rolledBackChangesDoNotReachTheIndexes() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            vacancyService.updateVacancy(nursing, new VacancyRequest(companyId, "Fisioterapeuta", null,
+                    VacancyType.REMOTE, null, null, null, "Leitor de tela"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            vacancyService.deleteVacancy(nursing);
+            status.setRollbackOnly();
+        });
+
+        assertThat(suggest("fisio")).isEmpty();
+        assertThat(suggest("enfermagem")).extracting("text").containsExactly("Técnico de Enfermagem");
+        assertThat(vacancyService.getVacanciesWithFilters("enfermagem", null, null, null, null, Pageable.unpaged())
+                .getContent()).extracting(VacancyResponse::id).containsExactly(nursing);
+    }
+
+    @Test
+    void limitIsCappedAtTen() {
+        assertThat(vacancyService.suggest("t", 50)).hasSizeLessThanOrEqualTo(TypeaheadIndex.MAX_SUGGESTIONS);
+        assertThat(vacancyService.suggest("tecnico", 1)).extracting(SuggestionResponse::text)
+                .containsExactly("Técnico em Órteses");
+    }
+
+    private List<SuggestionResponse> suggest(String text) throws Exception {
+        String body = mockMvc.perform(get("/vacancies/suggestions").param("q", text)
+                .with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(0))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, new TypeReference<List<SuggestionResponse>>() {
+        });
+    }
+
+    private Long company(String email, String name, String sector) {
+        User user = testData.user(name, email, UserRole.COMPANY);
+        return companyService.createCompany(new CompanyRequest(user.getId(), name, sector, AcessibilityType.HIGH,
+                null, null)).id();
+    }
+
+    private Long vacancy(String title) {
+        return vacancyService.createVacancy(new VacancyRequest(companyId, title, "Vaga inclusiva",
+                VacancyType.HYBRID, "Recife", "PE", null, "Leitor de tela")).id();
+    }
+}
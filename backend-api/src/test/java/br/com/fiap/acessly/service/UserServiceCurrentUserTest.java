@@ -0,0 +1,84 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.CurrentUserResponse;
+import br.com.fiap.acessly.model.User;
+import br.com.fiap.acessly.model.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@Import(TestData.class)
+class UserServiceCurrentUserTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = testData.user("Ana", "ana.me@acessly.com", UserRole.CANDIDATE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void tokenCarriesIdentityClaimsResolvedWithOneLookup() {
+        Long candidateId = testData.candidate(testData.candidateOf(user)).getId();
+
+        Jwt jwt = jwtDecoder.decode(tokenService.generateToken(user));
+
+        assertThat(jwt.<Number>getClaim("userId").longValue()).isEqualTo(user.getId());
+        assertThat(jwt.<Number>getClaim("candidateId").longValue()).isEqualTo(candidateId);
+        assertThat(jwt.hasClaim("companyId")).isFalse();
+
+        statistics.clear();
+        CurrentUserResponse me = userService.getCurrentUser(user.getId(), jwt.getSubject(), candidateId, null)
+                .orElseThrow();
+
+        assertThat(me).isEqualTo(new CurrentUserResponse(user.getId(), candidateId, null, "Ana",
+                "ana.me@acessly.com", UserRole.CANDIDATE));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void profileCreatedAfterLoginIsStillResolved() {
+        Jwt jwt = jwtDecoder.decode(tokenService.generateToken(user));
+        assertThat(jwt.hasClaim("candidateId")).isFalse();
+
+        Long candidateId = testData.candidate(testData.candidateOf(user)).getId();
+
+        assertThat(userService.getCurrentUser(null, jwt.getSubject(), null, null))
+                .hasValueSatisfying(me -> assertThat(me.candidateId()).isEqualTo(candidateId));
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.companyJwt;
+import static br.com.fiap.acessly.TestData.companyUserJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.config.SqlStatements;
+import br.com.fiap.acessly.dto.CandidacyRequest;
+import br.com.fiap.acessly.dto.CandidacyStatusBulkRequest;
+import br.com.fiap.acessly.model.Candidacy;
+import br.com.fiap.acessly.model.CandidacyStatus;
+import br.com.fiap.acessly.model.Company;
+import br.com.fiap.acessly.repository.CandidacyRepository;
+import br.com.fiap.acessly.repository.CandidateRepository;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class VacancyApplicantCounterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CandidacyService candidacyService;
+
+    @Autowired
+    private VacancyApplicantCounter applicantCounter;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private VacancyRepository vacancyRepository;
+
+    @Autowired
+    private CandidacyRepository candidacyRepository;
+
+    private Long companyId;
+    private Long vacancyId;
+    private List<Long> candidateIds;
+
+    @BeforeEach
+    void setUp() {
+        Company company = testData.company("painel@acessly.com");
+        companyId = company.getId();
+        vacancyId = testData.vacancy(company, "Desenvolvedor").getId();
+        candidateIds = testData.candidateIds("painel", 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void countersFollowSubmissionsStatusChangesAndDeletions() {
+        List<Long> candidacies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            candidacies.add(apply(candidateIds.get(i)));
+        }
+        assertThat(applicantCounter.countsFor(vacancyId)).containsEntry(CandidacyStatus.UNDER_ANALYSIS, 3L);
+
+        candidacyService.updateCandidacyStatus(candidacies.get(0), CandidacyStatus.APPROVED);
+        candidacyService.updateCandidacyStatuses(new CandidacyStatusBulkRequest(vacancyId, CandidacyStatus.REJECTED,
+                List.of(candidacies.get(0), candidacies.get(1)), null, null));
+        candidacyService.deleteCandidacy(candidacies.get(2));
+
+        assertThat(applicantCounter.countsFor(vacancyId)).isEqualTo(Map.of(
+                CandidacyStatus.UNDER_ANALYSIS, 0L,
+                CandidacyStatus.APPROVED, 1L,
+                CandidacyStatus.REJECTED, 1L));
+        assertThat(applicantCounter.reconcile()).isZero();
+    }
+
+    @Test
+    void onlyTheOwningCompanySeesTheCounters() throws Exception {
+        Long candidacyId = apply(candidateIds.get(0));
+        apply(candidateIds.get(1));
+        candidacyService.updateCandidacyStatus(candidacyId, CandidacyStatus.APPROVED);
+
+        mockMvc.perform(get("/vacancies/" + vacancyId).with(companyJwt(companyId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.applicants").doesNotExist());
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/applicants").with(companyJwt(companyId)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1))
+                .andExpect(jsonPath("$[0].vacancyId").value(vacancyId))
+                .andExpect(jsonPath("$[0].title").value("Desenvolvedor"))
+                .andExpect(jsonPath("$[0].applicants.UNDER_ANALYSIS").value(1))
+                .andExpect(jsonPath("$[0].applicants.APPROVED").value(1))
+                .andExpect(jsonPath("$[0].applicants.REJECTED").value(0));
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/applicants")
+                .with(companyUserJwt("painel@acessly.com")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/vacancies/companies/" + companyId + "/applicants")
+                .with(companyJwt(companyId + 1)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void reconcileRepairsWritesThatBypassedTheCounters() {
+        apply(candidateIds.get(0));
+        candidacyRepository.save(Candidacy.builder()
+                .candidate(candidateRepository.getReferenceById(candidateIds.get(1)))
+                .vacancy(vacancyRepository.getReferenceById(vacancyId))
+                .applicationDate(LocalDate.now()).status(CandidacyStatus.APPROVED).build());
+
+        assertThat(applicantCounter.countsFor(vacancyId)).containsEntry(CandidacyStatus.APPROVED, 0L);
+        assertThat(applicantCounter.reconcile()).isEqualTo(1);
+        assertThat(applicantCounter.countsFor(vacancyId))
+                .containsEntry(CandidacyStatus.UNDER_ANALYSIS, 1L)
+                .containsEntry(CandidacyStatus.APPROVED, 1L);
+        assertThat(applicantCounter.reconcile()).isZero();
+    }
+
+    private Long apply(Long candidateId) {
+        return candidacyService.createCandidacy(new CandidacyRequest(candidateId, vacancyId, LocalDate.now(), null))
+                .id();
+    }
+}
@@ -0,0 +1,161 @@
+package br.com.fiap.acessly.service;
+
+import static br.com.fiap.acessly.TestData.candidateJwt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.config.SqlStatements;
+import br.com.fiap.acessly.dto.VacancyRequest;
+import br.com.fiap.acessly.dto.VacancyResponse;
+import br.com.fiap.acessly.model.LocationKey;
+import br.com.fiap.acessly.model.Vacancy;
+import br.com.fiap.acessly.model.VacancyType;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestData.class)
+class VacancyLocationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private VacancyRepository vacancyRepository;
+
+    @Autowired
+    private LocationKeyBackfill locationKeyBackfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long companyId;
+    private Long saoPaulo;
+    private Long saoJose;
+    private Long rio;
+
+    @BeforeEach
+    void setUp() {
+        companyId = testData.company("local@acessly.com").getId();
+
+        saoPaulo = create("Desenvolvedor Java", "São Paulo", "SP");
+        saoJose = create("Analista de dados", "São José dos Campos", "SP");
+        rio = create("Desenvolvedor Java", "Rio de Janeiro", "RJ");
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void cityMatchesWithoutAccentsOrCase() {
+        assertThat(filter(null, "Sao Paulo", null)).containsExactly(saoPaulo);
+        assertThat(filter(null, "SÃO PAULO", null)).containsExactly(saoPaulo);
+        assertThat(filter(null, "  são-paulo ", null)).containsExactly(saoPaulo);
+        assertThat(filter(null, "sao", null)).containsExactlyInAnyOrder(saoPaulo, saoJose);
+        assertThat(filter(null, "paulo", null)).isEmpty();
+    }
+
+    @Test
+    void stateMatchesTheWholeKey() {
+        assertThat(filter(null, null, "sp")).containsExactlyInAnyOrder(saoPaulo, saoJose);
+        assertThat(filter(null, "rio", "RJ")).containsExactly(rio);
+        assertThat(filter(null, null, "s")).isEmpty();
+    }
+
+    @Test
+    void stateNamesAndUfsShareOneKey() {
+        Long campinas = create("Desenvolvedor Java", "Campinas", "São Paulo");
+
+        assertThat(vacancyRepository.findById(campinas).orElseThrow().getStateKey()).isEqualTo("sp");
+        assertThat(filter(null, null, "SP")).containsExactlyInAnyOrder(saoPaulo, saoJose, campinas);
+        assertThat(filter(null, null, "sao paulo")).containsExactlyInAnyOrder(saoPaulo, saoJose, campinas);
+        assertThat(filter("java", null, "São Paulo")).containsExactlyInAnyOrder(saoPaulo, campinas);
+        assertThat(filter(null, null, "Rio de Janeiro")).containsExactly(rio);
+        assertThat(filter(null, null, "Rio Grande do Sul")).isEmpty();
+    }
+
+    @Test
+    void backfillWritesTheSameKeysAsTheApplication() {
+        Long lodz = create("Desenvolvedor Java", "Łódź", "Espírito Santo");
+        jdbcTemplate.update("update vacancy set city_key = null, state_key = null where id = ?", saoPaulo);
+        jdbcTemplate.update("update vacancy set city_key = 'odz', state_key = 'espirito santo' where id = ?", lodz);
+
+        assertThat(locationKeyBackfill.refold()).isEqualTo(2);
+        assertThat(locationKeyBackfill.refold()).isZero();
+
+        for (Vacancy vacancy : vacancyRepository.findAllById(List.of(saoPaulo, saoJose, rio, lodz))) {
+            assertThat(vacancy.getCityKey()).isEqualTo(LocationKey.fold(vacancy.getCity()));
+            assertThat(vacancy.getStateKey()).isEqualTo(LocationKey.state(vacancy.getState()));
+        }
+        assertThat(filter(null, "łodz", "ES")).containsExactly(lodz);
+        assertThat(filter(null, "sao paulo", "sp")).containsExactly(saoPaulo);
+    }
+
+    @Test
+    void rankedSearchAndScrollUseTheSameKeys() throws Exception {
+        assertThat(filter("java", "sao paulo", null)).containsExactly(saoPaulo);
+        assertThat(filter("java", null, "Sp")).containsExactly(saoPaulo);
+
+        String body = mockMvc.perform(get("/vacancies/scroll?city=SAO&state=sp&size=10")
+                .with(candidateJwt()))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(1))
+                .andReturn().getResponse().getContentAsString();
+        List<Long> ids = new ArrayList<>();
+        objectMapper.readTree(body).get("content").forEach((JsonNode vacancy) -> ids.add(vacancy.get("id").asLong()));
+        assertThat(ids).containsExactlyInAnyOrder(saoPaulo, saoJose);
+    }
+
+    @Test
+    void updateRefoldsTheKeys() {
+        vacancyService.updateVacancy(saoPaulo, new VacancyRequest(companyId, "Desenvolvedor Java", null,
+                VacancyType.REMOTE, "Florianópolis", "SC", null, "Leitor de tela"));
+
+        Vacancy vacancy = vacancyRepository.findById(saoPaulo).orElseThrow();
+        assertThat(vacancy.getCityKey()).isEqualTo("florianopolis");
+        assertThat(vacancy.getStateKey()).isEqualTo("sc");
+        assertThat(filter(null, "florianopolis", "sc")).containsExactly(saoPaulo);
+        assertThat(filter("java", "florianopolis", null)).containsExactly(saoPaulo);
+        assertThat(filter(null, "sao paulo", null)).isEmpty();
+    }
+
+    private Long create(String title, String city, String state) {
+        return vacancyService.createVacancy(new VacancyRequest(companyId, title, "Vaga inclusiva",
+                VacancyType.HYBRID, city, state, null, "Leitor de tela")).id();
+    }
+
+    private List<Long> filter(String title, String city, String state) {
+        return vacancyService.getVacanciesWithFilters(title, null, city, state, null, Pageable.unpaged())
+                .map(VacancyResponse::id).getContent();
+    }
+}
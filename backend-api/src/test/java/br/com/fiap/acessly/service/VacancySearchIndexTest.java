@@ -0,0 +1,73 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.fiap.acessly.model.VacancyType;
+
+class VacancySearchIndexTest {
+
+    private VacancySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VacancySearchIndex(null);
+        index.index(1L, "Desenvolvedor Java", "APIs em Spring", "Leitor de tela", VacancyType.REMOTE, "São Paulo",
+                "SP");
+        index.index(2L, "Analista de dados", "Relatórios com Java e SQL", "Rampa de acesso", VacancyType.HYBRID,
+                "Campinas", "SP");
+        index.index(3L, "Desenvolvedor Java Sênior", "Microsserviços em Java", "Intérprete de Libras",
+                VacancyType.IN_PERSON, "Rio de Janeiro", "RJ");
+        index.index(4L, "Atendimento ao cliente", "Suporte por telefone", "Leitor de tela", VacancyType.REMOTE,
+                "Recife", "PE");
+    }
+
+    @Test
+    void tokenizeFoldsAccentsAndDropsStopWords() {
+        assertThat(VacancySearchIndex.tokenize("Analista de Dados SÊNIOR, São Paulo!"))
+                .containsExactly("analista", "dados", "senior", "sao", "paulo");
+        assertThat(VacancySearchIndex.tokenize("a e i")).isEmpty();
+        assertThat(VacancySearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void titleMatchesOutrankDescriptionMatches() {
+        assertThat(index.search("java", null, null, null, null)).containsExactly(3L, 1L, 2L);
+        assertThat(index.search("senior", null, null, null, null)).containsExactly(3L);
+    }
+
+    @Test
+    void everyTermMustMatchAndOnlyTheLastOneIsAPrefix() {
+        assertThat(index.search("desenvolvedor java", null, null, null, null)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("java desenv", null, null, null, null)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.search("desenv java", null, null, null, null)).isEmpty();
+        assertThat(index.search("ja", null, null, null, null)).isEmpty();
+    }
+
+    @Test
+    void accessibilityOnlyMatchesTheAccessibilityField() {
+        assertThat(index.search(null, "leitor", null, null, null)).containsExactly(1L, 4L);
+        assertThat(index.search("java", "libras", null, null, null)).containsExactly(3L);
+        assertThat(index.search(null, "java", null, null, null)).isEmpty();
+    }
+
+    @Test
+    void filtersByTypeAndLocation() {
+        assertThat(index.search("java", null, VacancyType.HYBRID, null, null)).containsExactly(2L);
+        assertThat(index.search("java", null, null, "sao", null)).containsExactly(1L);
+        assertThat(index.search("java", null, null, null, "sp")).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void reindexingAndRemovalReplaceTheDocument() {
+        index.index(1L, "Designer gráfico", "Figma", "Leitor de tela", VacancyType.REMOTE, "São Paulo", "SP");
+        assertThat(index.search("java", null, null, null, null)).containsExactly(3L, 2L);
+        assertThat(index.search("grafico", null, null, null, null)).containsExactly(1L);
+
+        index.remove(3L);
+        assertThat(index.search("java", null, null, null, null)).containsExactly(2L);
+        assertThat(index.search("senior", null, null, null, null)).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.fiap.acessly.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+
+import br.com.fiap.acessly.TestData;
+import br.com.fiap.acessly.dto.ImportError;
+import br.com.fiap.acessly.dto.ImportReport;
+import br.com.fiap.acessly.repository.VacancyRepository;
+
+@SpringBootTest
+@Import(TestData.class)
+class VacancyServiceImportTest {
+
+    @Autowired
+    private VacancyService vacancyService;
+
+    @Autowired
+    private CompanySupportService companySupportService;
+
+    @Autowired
+    private VacancyRepository vacancyRepository;
+
+    @Autowired
+    private TestData testData;
+
+    private Long companyId;
+
+    @BeforeEach
+    void setUp() {
+        companyId = testData.company("importacao@acessly.com").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void importsValidNdjsonRowsAndReportsRejectedLines() throws IOException {
+        String body = String.join("\n",
+                row("Analista de dados", "Rampa de acesso"),
+                row("", "Rampa de acesso"),
+                "{\"companyId\": " + companyId + ", \"title\": ",
+                "",
+                "{\"companyId\": 999999, \"title\": \"Designer\", \"vacancyType\": \"REMOTE\", \"accessibilityOffered\": \"Libras\"}",
+                row("x".repeat(150), "Libras"),
+                row("Engenheiro de software", "Leitor de tela"));
+
+        ImportReport report = vacancyService.importVacancies(stream(body), MediaType.APPLICATION_NDJSON);
+
+        assertThat(report.processed()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(4);
+        assertThat(report.errors()).extracting(ImportError::line).containsExactlyInAnyOrder(2L, 3L, 5L, 6L);
+        assertThat(report.errors()).filteredOn(error -> error.line() == 5)
+                .extracting(ImportError::message).containsExactly("Company not found");
+
+        assertThat(vacancyRepository.count()).isEqualTo(2);
+        assertThat(vacancyService.getVacanciesWithFilters("engenheiro", null, null, null, null, Pageable.unpaged())
+                .getContent()).hasSize(1);
+    }
+
+    @Test
+    void importsCsvWithHeader() throws IOException {
+        String body = String.join("\n",
+                "companyId,supportType,description",
+                companyId + ",Intérprete de Libras,\"Disponível em reuniões, treinamentos e eventos\"",
+                companyId + ",Mentoria,",
+                "999999,Transporte,Van adaptada");
+
+        ImportReport report = companySupportService.importCompanySupports(stream(body),
+                MediaType.parseMediaType("text/csv; charset=UTF-8"));
+
+        assertThat(report.processed()).isEqualTo(3);
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.errors()).extracting(ImportError::line).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(companySupportService.getSupportByCompany(companyId))
+                .singleElement()
+                .satisfies(support -> assertThat(support.description())
+                        .isEqualTo("Disponível em reuniões, treinamentos e eventos"));
+    }
+
+    private String row(String title, String accessibilityOffered) {
+        return "{\"companyId\": " + companyId + ", \"title\": \"" + title
+                + "\", \"vacancyType\": \"REMOTE\", \"accessibilityOffered\": \"" + accessibilityOffered + "\"}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
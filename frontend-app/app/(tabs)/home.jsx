@@ -1,11 +1,11 @@
 import { Text, StyleSheet, View, TouchableOpacity, ScrollView, StatusBar } from "react-native";
 import { useFocusEffect } from '@react-navigation/native';
 import { SafeAreaView } from "react-native-safe-area-context";
-import { useState, useCallback } from "react";
+import { useState, useCallback, useEffect } from "react";
 import { useLocalSearchParams, router } from "expo-router";
 import { Ionicons } from "@expo/vector-icons";
 import { Colors, Fonts } from "../../constants/Colors";
-import { vacancyService, candidacyService, authService } from "../../services/api";
+import { vacancyService, candidacyService, candidacyEvents, authService } from "../../services/api";
 
 export default function Home() {
   const { email } = useLocalSearchParams();
@@ -17,21 +17,38 @@ export default function Home() {
   useFocusEffect(
     useCallback(() => {
       carregarDados();
-      verificarNotificacoes();
     }, [])
   );
 
+  useEffect(() => {
+    let cancelarEventos = null;
+    let desmontado = false;
+
+    verificarNotificacoes().then(user => {
+      if (user?.candidateId && !desmontado) {
+        cancelarEventos = candidacyEvents.assinar({
+          onStatus: atualizarNotificacoes,
+          onResync: verificarNotificacoes,
+        });
+      }
+    });
+
+    return () => {
+      desmontado = true;
+      cancelarEventos?.();
+    };
+  }, []);
+
   async function carregarDados() {
     try {
       const user = await authService.getCurrentUser();
       setUserName(user.name || email || "usuário");
 
-      const vagasResponse = await vacancyService.listar(0, 1);
+      const vagasResponse = await vacancyService.listar(0, 1, { fields: ['id'] });
       setTotalVagas(vagasResponse.totalElements || 0);
 
       if (user.candidateId) {
-        const candidaturasResponse = await candidacyService.listarPorCandidato(user.candidateId, 0, 1);
-        setTotalCandidaturas(candidaturasResponse.totalElements || 0);
+        setTotalCandidaturas(await candidacyService.contarPorCandidato(user.candidateId));
       }
     } catch (error) {
       console.error("Erro ao carregar dados:", error);
@@ -46,19 +63,26 @@ export default function Home() {
         
         if (!candidaturasResponse || !candidaturasResponse.content) {
           setNotificacoesNovas(0);
-          return;
+          return user;
         }
 
-        
         const novas = candidaturasResponse.content.filter(c => c.status !== 'UNDER_ANALYSIS');
         setNotificacoesNovas(novas.length);
       }
+      return user;
     } catch (error) {
       console.error("Erro ao verificar notificações:", error);
       setNotificacoesNovas(0);
+      return null;
     }
   }
 
+  function atualizarNotificacoes(evento) {
+    const contaAgora = evento.candidacy.status !== 'UNDER_ANALYSIS' ? 1 : 0;
+    const contavaAntes = evento.previousStatus !== 'UNDER_ANALYSIS' ? 1 : 0;
+    setNotificacoesNovas(total => Math.max(0, total + contaAgora - contavaAntes));
+  }
+
   function irParaVagas() {
     router.push("/(tabs)/vagas");
   }
@@ -6,9 +6,13 @@ import { Ionicons } from "@expo/vector-icons";
 import { Colors, Fonts } from "../../constants/Colors";
 import { vacancyService } from "../../services/api";
 
+const CAMPOS_LISTA = ['companyName', 'title', 'vacancyType', 'city', 'state', 'salary', 'accessibilityOffered'];
+
 export default function Vagas() {
   const [vagas, setVagas] = useState([]);
   const [loading, setLoading] = useState(true);
+  const [cursor, setCursor] = useState(null);
+  const [carregandoMais, setCarregandoMais] = useState(false);
 
   useEffect(() => {
     carregarVagas();
@@ -17,8 +21,9 @@ export default function Vagas() {
   async function carregarVagas() {
     setLoading(true);
     try {
-      const response = await vacancyService.listar(0, 20);
+      const response = await vacancyService.rolar(null, 20, { fields: CAMPOS_LISTA });
       setVagas(response.content || []);
+      setCursor(response.nextCursor);
     } catch (error) {
       console.error("Erro ao carregar vagas:", error);
     } finally {
@@ -26,6 +31,27 @@ export default function Vagas() {
     }
   }
 
+  async function carregarMais() {
+    if (!cursor || carregandoMais) return;
+    setCarregandoMais(true);
+    try {
+      const response = await vacancyService.rolar(cursor, 20, { fields: CAMPOS_LISTA });
+      setVagas((atuais) => [...atuais, ...(response.content || [])]);
+      setCursor(response.nextCursor);
+    } catch (error) {
+      console.error("Erro ao carregar mais vagas:", error);
+    } finally {
+      setCarregandoMais(false);
+    }
+  }
+
+  function aoRolar({ nativeEvent }) {
+    const { layoutMeasurement, contentOffset, contentSize } = nativeEvent;
+    if (layoutMeasurement.height + contentOffset.y >= contentSize.height - 200) {
+      carregarMais();
+    }
+  }
+
   function getTipoLabel(tipo) {
     const tipos = {
       REMOTE: "Remoto",
@@ -68,7 +94,12 @@ export default function Vagas() {
         <Text style={styles.headerSubtitle}>{vagas.length} oportunidades encontradas</Text>
       </View>
 
-      <ScrollView showsVerticalScrollIndicator={false} style={styles.scrollView}>
+      <ScrollView
+        showsVerticalScrollIndicator={false}
+        style={styles.scrollView}
+        onScroll={aoRolar}
+        scrollEventThrottle={200}
+      >
         {vagas.length === 0 ? (
           <View style={styles.emptyState}>
             <Ionicons name="briefcase-outline" size={64} color={Colors.textLight} />
@@ -129,6 +160,9 @@ export default function Vagas() {
             </TouchableOpacity>
           ))
         )}
+        {carregandoMais && (
+          <ActivityIndicator size="small" color={Colors.primary} style={styles.carregandoMais} />
+        )}
       </ScrollView>
     </SafeAreaView>
   );
@@ -265,4 +299,7 @@ const styles = StyleSheet.create({
     color: Colors.textLight,
     flex: 1,
   },
+  carregandoMais: {
+    marginVertical: 16,
+  },
 });
\ No newline at end of file
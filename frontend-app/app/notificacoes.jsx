@@ -4,17 +4,56 @@ import { useState, useEffect } from "react";
 import { router } from "expo-router";
 import { Ionicons } from "@expo/vector-icons";
 import { Colors, Fonts } from "../constants/Colors";
-import { candidacyService, authService } from "../services/api";
+import { candidacyService, candidacyEvents, authService } from "../services/api";
 
 export default function Notificacoes() {
   const [notificacoes, setNotificacoes] = useState([]);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
-    carregarNotificacoes();
-    
+    let cancelarEventos = null;
+    let desmontado = false;
+
+    carregarNotificacoes().then(user => {
+      if (user?.candidateId && !desmontado) {
+        cancelarEventos = candidacyEvents.assinar({
+          onStatus: atualizarNotificacao,
+          onResync: carregarNotificacoes,
+        });
+      }
+    });
+
+    return () => {
+      desmontado = true;
+      cancelarEventos?.();
+    };
   }, []);
 
+  function paraNotificacao(c, data) {
+    return {
+      id: c.id,
+      tipo: c.status === 'UNDER_ANALYSIS' ? 'candidatura' : 'status',
+      titulo: c.status === 'UNDER_ANALYSIS' 
+        ? 'Candidatura enviada' 
+        : c.status === 'APPROVED' 
+          ? 'Candidatura aprovada!' 
+          : 'Candidatura não aprovada',
+      mensagem: c.status === 'UNDER_ANALYSIS'
+        ? `Você se candidatou para ${c.vacancyTitle || 'vaga'} na empresa ${c.companyName || 'empresa'}`
+        : c.status === 'APPROVED'
+          ? `Parabéns! Sua candidatura para ${c.vacancyTitle || 'vaga'} foi aprovada`
+          : `Sua candidatura para ${c.vacancyTitle || 'vaga'} não foi aprovada desta vez`,
+      data,
+      status: c.status,
+      vacancyId: c.vacancyId,
+    };
+  }
+
+  function atualizarNotificacao(evento) {
+    const notif = paraNotificacao(evento.candidacy, new Date(evento.changedAt));
+    setNotificacoes(atuais => [notif, ...atuais.filter(n => n.id !== notif.id)]);
+  }
+
   async function carregarNotificacoes() {
     setLoading(true);
     try {
@@ -24,29 +63,13 @@ export default function Notificacoes() {
         
         const candidaturas = response?.content || [];
         
-        const notifs = candidaturas.map(c => ({
-          id: c.id,
-          tipo: c.status === 'UNDER_ANALYSIS' ? 'candidatura' : 'status',
-          titulo: c.status === 'UNDER_ANALYSIS' 
-            ? 'Candidatura enviada' 
-            : c.status === 'APPROVED' 
-              ? 'Candidatura aprovada!' 
-              : 'Candidatura não aprovada',
-          mensagem: c.status === 'UNDER_ANALYSIS'
-            ? `Você se candidatou para ${c.vacancyTitle || 'vaga'} na empresa ${c.companyName || 'empresa'}`
-            : c.status === 'APPROVED'
-              ? `Parabéns! Sua candidatura para ${c.vacancyTitle || 'vaga'} foi aprovada`
-              : `Sua candidatura para ${c.vacancyTitle || 'vaga'} não foi aprovada desta vez`,
-          data: new Date(c.applicationDate),
-          status: c.status,
-          vacancyId: c.vacancyId,
-        }));
-        
-        setNotificacoes(notifs);
+        setNotificacoes(candidaturas.map(c => paraNotificacao(c, new Date(c.applicationDate))));
       }
+      return user;
     } catch (error) {
       console.error("Erro ao carregar notificações:", error);
       setNotificacoes([]);
+      return null;
     } finally {
       setLoading(false);
     }
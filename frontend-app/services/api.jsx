@@ -1,7 +1,9 @@
 import axios from 'axios';
 import AsyncStorage from '@react-native-async-storage/async-storage';
 
-const API_URL = 'https://acessly-api.onrender.com';
+export const API_URL = 'https://acessly-api.onrender.com';
+const LAST_EVENT_ID_KEY = 'candidacyEventsLastId';
+const EVENTS_RECONNECT_DELAY = 5000;
 
 const api = axios.create({
   baseURL: API_URL,
@@ -12,6 +14,23 @@ const api = axios.create({
 });
 
 let cachedUser = null;
+const respostasCondicionais = new Map();
+
+const getCondicional = async (url) => {
+  const anterior = respostasCondicionais.get(url);
+  const response = await api.get(url, {
+    headers: anterior ? { 'If-None-Match': anterior.etag } : {},
+    validateStatus: (status) => (status >= 200 && status < 300) || (anterior && status === 304),
+  });
+
+  if (response.status === 304) {
+    return anterior.data;
+  }
+  if (response.headers.etag) {
+    respostasCondicionais.set(url, { etag: response.headers.etag, data: response.data });
+  }
+  return response.data;
+};
 
 api.interceptors.request.use(
   async (config) => {
@@ -71,8 +90,10 @@ export const authService = {
 
   logout: async () => {
     cachedUser = null;
+    respostasCondicionais.clear();
     await AsyncStorage.removeItem('token');
     await AsyncStorage.removeItem('userEmail');
+    await AsyncStorage.removeItem(LAST_EVENT_ID_KEY);
   },
 
   getCurrentUser: async () => {
@@ -86,48 +107,15 @@ export const authService = {
         throw new Error('Usuário não autenticado');
       }
 
-      const usersResponse = await api.get(`/users?page=0&size=100`);
-      const user = usersResponse.data.content.find(u => u.email === email);
-
-      if (!user) {
-        throw new Error('Usuário não encontrado');
-      }
-
-      let candidateId = null;
-      if (user.userRole === 'CANDIDATE') {
-        try {
-          const candidatesResponse = await api.get(`/candidates?page=0&size=100`);
-          const candidate = candidatesResponse.data.content.find(c => c.userId === user.id);
-          
-          if (candidate) {
-            candidateId = candidate.id.toString();
-          }
-        } catch (error) {
-          console.error('Erro ao buscar candidato:', error.message);
-        }
-      }
-
-      let companyId = null;
-      if (user.userRole === 'COMPANY') {
-        try {
-          const companiesResponse = await api.get(`/companies?page=0&size=100`);
-          const company = companiesResponse.data.content.find(c => c.userId === user.id);
-          
-          if (company) {
-            companyId = company.id.toString();
-          }
-        } catch (error) {
-          console.error('Erro ao buscar empresa:', error.message);
-        }
-      }
+      const { data: me } = await api.get('/users/me');
 
       const userData = {
-        userId: user.id.toString(),
-        candidateId,
-        companyId,
-        email: user.email,
-        name: user.name,
-        role: user.userRole,
+        userId: me.userId.toString(),
+        candidateId: me.candidateId != null ? me.candidateId.toString() : null,
+        companyId: me.companyId != null ? me.companyId.toString() : null,
+        email: me.email,
+        name: me.name,
+        role: me.role,
       };
 
       cachedUser = userData;
@@ -221,17 +209,18 @@ export const companyService = {
   },
 
   buscarPorId: async (id) => {
-    const response = await api.get(`/companies/${id}`);
-    return response.data;
+    return getCondicional(`/companies/${id}`);
   },
 
   atualizar: async (id, dados) => {
     const response = await api.put(`/companies/${id}`, dados);
+    respostasCondicionais.delete(`/companies/${id}`);
     return response.data;
   },
 
   deletar: async (id) => {
     const response = await api.delete(`/companies/${id}`);
+    respostasCondicionais.delete(`/companies/${id}`);
     return response.data;
   },
 };
@@ -247,22 +236,34 @@ export const vacancyService = {
     if (filters.title) url += `&title=${filters.title}`;
     if (filters.city) url += `&city=${filters.city}`;
     if (filters.vacancyType) url += `&vacancyType=${filters.vacancyType}`;
+    if (filters.fields) url += `&fields=${filters.fields.join(',')}`;
     const response = await api.get(url);
     return response.data;
   },
 
-  buscarPorId: async (id) => {
-    const response = await api.get(`/vacancies/${id}`);
+  rolar: async (cursor = null, size = 20, filters = {}) => {
+    let url = `/vacancies/scroll?size=${size}`;
+    if (cursor) url += `&cursor=${encodeURIComponent(cursor)}`;
+    if (filters.city) url += `&city=${filters.city}`;
+    if (filters.vacancyType) url += `&vacancyType=${filters.vacancyType}`;
+    if (filters.fields) url += `&fields=${filters.fields.join(',')}`;
+    const response = await api.get(url);
     return response.data;
   },
 
+  buscarPorId: async (id) => {
+    return getCondicional(`/vacancies/${id}`);
+  },
+
   atualizar: async (id, dados) => {
     const response = await api.put(`/vacancies/${id}`, dados);
+    respostasCondicionais.delete(`/vacancies/${id}`);
     return response.data;
   },
 
   deletar: async (id) => {
     const response = await api.delete(`/vacancies/${id}`);
+    respostasCondicionais.delete(`/vacancies/${id}`);
     return response.data;
   },
 };
@@ -291,6 +292,11 @@ export const candidacyService = {
     };
   },
 
+  contarPorCandidato: async (candidateId) => {
+    const response = await api.get(`/candidacies?candidateId=${candidateId}&page=0&size=1&fields=id`);
+    return response.data.totalElements || 0;
+  },
+
   listarPorVaga: async (vacancyId, page = 0, size = 10) => {
     const response = await api.get(`/candidacies/vacancy/${vacancyId}?page=${page}&size=${size}`);
     return response.data;
@@ -307,4 +313,80 @@ export const candidacyService = {
   },
 };
 
+export const candidacyEvents = {
+  assinar: ({ onStatus, onResync }) => {
+    let xhr = null;
+    let timer = null;
+    let fechado = false;
+    let lido = 0;
+    let buffer = '';
+
+    function tratarBloco(bloco) {
+      let id = null;
+      let evento = 'message';
+      const dados = [];
+
+      bloco.split('\n').forEach(linha => {
+        if (!linha || linha.startsWith(':')) return;
+        const separador = linha.indexOf(':');
+        const campo = separador === -1 ? linha : linha.substring(0, separador);
+        const valor = separador === -1 ? '' : linha.substring(separador + 1).replace(/^ /, '');
+        if (campo === 'id') id = valor;
+        else if (campo === 'event') evento = valor;
+        else if (campo === 'data') dados.push(valor);
+      });
+
+      if (id) {
+        AsyncStorage.setItem(LAST_EVENT_ID_KEY, id);
+      }
+      if (evento === 'candidacy-status' && dados.length > 0) {
+        onStatus?.(JSON.parse(dados.join('\n')));
+      } else if (evento === 'resync') {
+        onResync?.();
+      }
+    }
+
+    function processar(texto) {
+      buffer += texto.substring(lido);
+      lido = texto.length;
+      const blocos = buffer.split('\n\n');
+      buffer = blocos.pop();
+      blocos.forEach(tratarBloco);
+    }
+
+    async function conectar() {
+      if (fechado) return;
+
+      const token = await AsyncStorage.getItem('token');
+      const lastEventId = await AsyncStorage.getItem(LAST_EVENT_ID_KEY);
+      lido = 0;
+      buffer = '';
+
+      xhr = new XMLHttpRequest();
+      xhr.open('GET', `${API_URL}/candidacies/events`);
+      xhr.setRequestHeader('Accept', 'text/event-stream');
+      if (token) xhr.setRequestHeader('Authorization', `Bearer ${token}`);
+      if (lastEventId) xhr.setRequestHeader('Last-Event-ID', lastEventId);
+
+      xhr.onreadystatechange = () => {
+        if (xhr.readyState === 3 || xhr.readyState === 4) {
+          processar(xhr.responseText || '');
+        }
+        if (xhr.readyState === 4 && !fechado && (xhr.status === 0 || xhr.status === 200 || xhr.status >= 500)) {
+          timer = setTimeout(conectar, EVENTS_RECONNECT_DELAY);
+        }
+      };
+      xhr.send();
+    }
+
+    conectar();
+
+    return () => {
+      fechado = true;
+      clearTimeout(timer);
+      xhr?.abort();
+    };
+  },
+};
+
 export default api;